@@ -0,0 +1,79 @@
+package com.gilberto.task_manager_api.security;
+
+import com.gilberto.task_manager_api.model.User;
+import com.gilberto.task_manager_api.model.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User.UserBuilder;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full filter pass for an authenticated request. {@code claims} tokens carry the user id and
+ * role; {@code subject} tokens only carry the e-mail and resolve the principal through the
+ * (stubbed) user store behind {@link PrincipalCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"claims", "subject"})
+    public String tokenKind;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setup() {
+        JwtService jwtService = JwtServiceBenchmark.jwtService(10_000);
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email("bench@example.com")
+                .senha("hashed")
+                .role(UserRole.USER)
+                .build();
+        UserDetailsServiceImpl userStore = new UserDetailsServiceImpl(null) {
+            @Override
+            public AuthenticatedUser loadPrincipalByUsername(String username) {
+                return AuthenticatedUser.of(user.getId(), username, user.getRole());
+            }
+        };
+        filter = new JwtAuthenticationFilter(jwtService, userStore, new PrincipalCache(true, 10_000, Duration.ofMinutes(5)),
+                new TokenRevocationService(null, 3_600_000L), new SimpleMeterRegistry());
+
+        UserBuilder details = org.springframework.security.core.userdetails.User.withUsername(user.getEmail())
+                .password("hashed")
+                .roles(user.getRole().name());
+        String token = tokenKind.equals("claims") ? jwtService.generateToken(user) : jwtService.generateToken(details.build());
+        request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        response = new MockHttpServletResponse();
+        chain = (req, res) -> {
+        };
+    }
+
+    @Benchmark
+    public void doFilter(Blackhole blackhole) throws Exception {
+        filter.doFilter(request, response, chain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
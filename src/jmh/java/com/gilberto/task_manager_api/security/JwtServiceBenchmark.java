@@ -0,0 +1,74 @@
+package com.gilberto.task_manager_api.security;
+
+import com.gilberto.task_manager_api.model.User;
+import com.gilberto.task_manager_api.model.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    static final String SECRET = "UvTKgS5WoRVexnT3wQWDJyeZ1BI3/pRJBwFlysTu3qU=";
+
+    private JwtService jwtService;
+    private JwtService uncachedJwtService;
+    private User user;
+    private AuthenticatedUser principal;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtService = jwtService(10_000);
+        uncachedJwtService = jwtService(0);
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .nome("Bench")
+                .email("bench@example.com")
+                .senha("hashed")
+                .role(UserRole.USER)
+                .build();
+        principal = AuthenticatedUser.of(user.getId(), user.getEmail(), user.getRole());
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, principal);
+    }
+
+    @Benchmark
+    public boolean isTokenValidWithoutCache() {
+        return uncachedJwtService.isTokenValid(token, principal);
+    }
+
+    static JwtService jwtService(long cacheMaxSize) {
+        JwtService service = new JwtService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "secret", SECRET);
+        ReflectionTestUtils.setField(service, "expirationMillis", 3_600_000L);
+        ReflectionTestUtils.setField(service, "cacheMaxSize", cacheMaxSize);
+        service.init();
+        return service;
+    }
+}
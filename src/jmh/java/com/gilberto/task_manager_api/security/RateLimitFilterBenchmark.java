@@ -0,0 +1,85 @@
+package com.gilberto.task_manager_api.security;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Overhead of the rate limiter on the request path, with limits high enough that every
+ * request is let through. {@code shared} puts all threads on one bucket to show the cost
+ * of CAS contention; {@code distinct} gives each thread its own client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class RateLimitFilterBenchmark {
+
+    private static final AtomicInteger CLIENTS = new AtomicInteger();
+
+    @Param({"distinct", "shared"})
+    public String clients;
+
+    private RateLimiter rateLimiter;
+    private RateLimiter.Limit limit;
+    private RateLimitFilter filter;
+
+    @Setup
+    public void setup() {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setPattern("/api/**");
+        route.setCapacity(1_000_000);
+        route.setRefillPerSecond(1_000_000_000);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(route));
+
+        rateLimiter = new RateLimiter(properties);
+        limit = RateLimiter.Limit.of(route.getCapacity(), route.getRefillPerSecond());
+        filter = new RateLimitFilter(rateLimiter, properties, JsonMapper.builder().build());
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        String key;
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+        FilterChain chain;
+
+        @Setup
+        public void setup(RateLimitFilterBenchmark benchmark) {
+            int id = benchmark.clients.equals("shared") ? 0 : CLIENTS.incrementAndGet();
+            key = "0:ip:10.0." + (id / 256) + "." + (id % 256);
+            request = new MockHttpServletRequest("GET", "/api/tasks");
+            request.setRemoteAddr("10.0." + (id / 256) + "." + (id % 256));
+            response = new MockHttpServletResponse();
+            chain = (req, res) -> {
+            };
+        }
+    }
+
+    @Benchmark
+    public long tryAcquire(Client client) {
+        return rateLimiter.tryAcquire(client.key, limit, System.nanoTime());
+    }
+
+    @Benchmark
+    public int doFilter(Client client) throws Exception {
+        filter.doFilter(client.request, client.response, client.chain);
+        return client.response.getStatus();
+    }
+}
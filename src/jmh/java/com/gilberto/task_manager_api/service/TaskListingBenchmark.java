@@ -0,0 +1,135 @@
+package com.gilberto.task_manager_api.service;
+
+import com.gilberto.task_manager_api.TaskManagerApiApplication;
+import com.gilberto.task_manager_api.TestcontainersConfiguration;
+import com.gilberto.task_manager_api.dto.task.TaskResponse;
+import com.gilberto.task_manager_api.model.Task;
+import com.gilberto.task_manager_api.model.User;
+import com.gilberto.task_manager_api.model.enums.UserRole;
+import com.gilberto.task_manager_api.repository.TaskQuery;
+import com.gilberto.task_manager_api.repository.TaskRepository;
+import com.gilberto.task_manager_api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One listing page read the way {@code GET /api/tasks} used to, as {@link Task} entities mapped
+ * to {@link TaskResponse} in a read-write transaction, against the current constructor
+ * projection in a read-only one. Runs against PostgreSQL in Testcontainers, so Docker is
+ * required; run with {@code -prof gc} to compare allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListingBenchmark {
+
+    private static final int TASKS = 1_000;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TaskRepository taskRepository;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private MethodHandle toResponse;
+    private TaskService taskService;
+    private UUID userId;
+
+    @Setup
+    public void setup() throws Exception {
+        context = SpringApplication.from(TaskManagerApiApplication::main)
+                .with(TestcontainersConfiguration.class)
+                .run("--spring.profiles.active=test",
+                        "--server.port=0",
+                        "--management.server.port=0",
+                        "--logging.level.root=WARN")
+                .getApplicationContext();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        taskRepository = context.getBean(TaskRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        taskService = new TaskService(null, null, null, null, null, null);
+        toResponse = MethodHandles.privateLookupIn(TaskService.class, MethodHandles.lookup())
+                .findVirtual(TaskService.class, "toResponse", MethodType.methodType(TaskResponse.class, Task.class));
+
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .nome("Benchmark")
+                .email(UUID.randomUUID() + "@example.com")
+                .senha("hashed")
+                .role(UserRole.USER)
+                .build());
+        userId = user.getId();
+        context.getBean(JdbcClient.class).sql("""
+                        insert into tasks (id, titulo, descricao, status, prioridade, categoria, created_at, updated_at, version, user_id)
+                        select gen_random_uuid(), 'Task ' || n, repeat('x', 200), 'TODO', 'MEDIUM', 'Work',
+                               now() - n * interval '1 second', now(), 0, :userId
+                        from generate_series(1, :rows) n
+                        """)
+                .param("rows", TASKS)
+                .param("userId", userId)
+                .update();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponse> entityListing() {
+        return readWrite.execute(status -> {
+            List<Task> tasks = entityManager.createQuery(
+                            "select t from Task t where t.user.id = :userId order by t.createdAt desc, t.id desc",
+                            Task.class)
+                    .setParameter("userId", userId)
+                    .setMaxResults(pageSize)
+                    .getResultList();
+            List<TaskResponse> responses = new ArrayList<>(tasks.size());
+            for (Task task : tasks) {
+                responses.add(map(task));
+            }
+            return responses;
+        });
+    }
+
+    @Benchmark
+    public List<TaskResponse> projectionListing() {
+        return readOnly.execute(status -> taskRepository.findNewestFirst(TaskQuery.forUser(userId), pageSize));
+    }
+
+    private TaskResponse map(Task task) {
+        try {
+            return (TaskResponse) toResponse.invoke(taskService, task);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.gilberto.task_manager_api.service;
+
+import com.gilberto.task_manager_api.dto.task.TaskResponse;
+import com.gilberto.task_manager_api.model.Task;
+import com.gilberto.task_manager_api.model.User;
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping and JSON serialization of a listing page, the CPU side of
+ * {@code GET /api/tasks} once the rows are loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskResponseBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private MethodHandle toResponse;
+    private TaskService taskService;
+    private Task task;
+    private Page<TaskResponse> page;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setup() throws Exception {
+        taskService = new TaskService(null, null, null, null, null, null);
+        toResponse = MethodHandles.privateLookupIn(TaskService.class, MethodHandles.lookup())
+                .findVirtual(TaskService.class, "toResponse", MethodType.methodType(TaskResponse.class, Task.class));
+        objectMapper = JsonMapper.builder().build();
+
+        User user = User.builder().id(UUID.randomUUID()).email("bench@example.com").build();
+        task = Task.builder()
+                .id(UUID.randomUUID())
+                .titulo("Benchmark task")
+                .descricao("A description long enough to look like a real one, with a few sentences of text.")
+                .status(TaskStatus.IN_PROGRESS)
+                .prioridade(TaskPriority.HIGH)
+                .categoria("Work")
+                .dueDate(LocalDate.now().plusDays(3))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .version(4L)
+                .user(user)
+                .build();
+
+        List<TaskResponse> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add((TaskResponse) toResponse.invoke(taskService, task));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public TaskResponse toResponse() throws Throwable {
+        return (TaskResponse) toResponse.invoke(taskService, task);
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,22 @@
+package com.gilberto.task_manager_api.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Endpoints exercised by the load test and their share of the traffic mix.
+ */
+@Getter
+@RequiredArgsConstructor
+enum Endpoint {
+    LOGIN("POST /api/auth/login", 5),
+    REGISTER("POST /api/auth/register", 1),
+    LIST("GET /api/tasks", 30),
+    GET("GET /api/tasks/{id}", 25),
+    CREATE("POST /api/tasks", 15),
+    UPDATE("PUT /api/tasks/{id}", 14),
+    DELETE("DELETE /api/tasks/{id}", 10);
+
+    private final String label;
+    private final int weight;
+}
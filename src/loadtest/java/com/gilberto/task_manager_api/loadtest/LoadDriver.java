@@ -0,0 +1,99 @@
+package com.gilberto.task_manager_api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model traffic: requests are started at a constant arrival rate whether or not earlier
+ * ones have finished, and each latency is measured from the moment the request was due, so a
+ * stalled server shows up in the percentiles instead of silently lowering the offered load.
+ * Failed calls, including 503 and 429 rejections, go to a separate histogram per endpoint so
+ * that fast rejections neither vanish from the report nor flatter the successful percentiles.
+ */
+class LoadDriver {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Histogram> errorLatencies = new EnumMap<>(Endpoint.class);
+    private final List<Endpoint> schedule;
+    private final ExecutorService executor;
+
+    LoadDriver(ExecutorService executor) {
+        this.executor = executor;
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3));
+            errorLatencies.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3));
+        }
+        List<Endpoint> mix = new ArrayList<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            mix.addAll(Collections.nCopies(endpoint.getWeight(), endpoint));
+        }
+        Collections.shuffle(mix, new Random(42));
+        this.schedule = List.copyOf(mix);
+    }
+
+    /**
+     * Offers {@code rate} requests per second for {@code warmup + duration}; only the
+     * requests due after the warmup are recorded.
+     */
+    Map<Endpoint, Histogram> run(double rate, Duration warmup, Duration duration, Scenario scenario)
+            throws InterruptedException {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long recordFrom = start + warmup.toNanos();
+        long end = recordFrom + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long due = start + i * interval;
+            if (due >= end) {
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean record = due >= recordFrom;
+            Endpoint endpoint = schedule.get((int) (i % schedule.size()));
+            executor.execute(() -> call(endpoint, due, record, scenario));
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        return latencies;
+    }
+
+    Histogram errorLatencies(Endpoint endpoint) {
+        return errorLatencies.get(endpoint);
+    }
+
+    private void call(Endpoint endpoint, long due, boolean record, Scenario scenario) {
+        boolean ok;
+        try {
+            ok = scenario.call(endpoint);
+        } catch (Exception e) {
+            ok = false;
+        }
+        long latency = System.nanoTime() - due;
+        if (!record) {
+            return;
+        }
+        (ok ? latencies : errorLatencies).get(endpoint).recordValue(Math.min(latency, HIGHEST_TRACKABLE_NANOS));
+    }
+
+    @FunctionalInterface
+    interface Scenario {
+        boolean call(Endpoint endpoint) throws Exception;
+    }
+}
@@ -0,0 +1,249 @@
+package com.gilberto.task_manager_api.loadtest;
+
+import com.gilberto.task_manager_api.TaskManagerApiApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.PrintStream;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end load test. Boots the application against an embedded PostgreSQL, seeds users
+ * and tasks over HTTP, drives a constant arrival rate across the auth and task endpoints and
+ * reports HDR histogram percentiles per endpoint, once per thread mode. The run fails when an
+ * endpoint's error rate exceeds {@code loadtest.maxErrorRate}.
+ *
+ * <p>Run with {@code ./mvnw -Ploadtest -DskipTests verify}; see the profile for the
+ * {@code loadtest.*} properties.
+ */
+public final class LoadTest {
+
+    private static final String JWT_SECRET = "UvTKgS5WoRVexnT3wQWDJyeZ1BI3/pRJBwFlysTu3qU=";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        Files.createDirectories(settings.reportDir());
+        List<String> failures = new ArrayList<>();
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            for (String mode : settings.modes()) {
+                truncate(postgres);
+                failures.addAll(run(postgres, settings, mode));
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Error rate above " + percent(settings.maxErrorRate()) + " for "
+                    + String.join(", ", failures));
+        }
+    }
+
+    private static List<String> run(EmbeddedPostgres postgres, Settings settings, String mode) throws Exception {
+        boolean virtualThreads = mode.equals("virtual");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagerApiApplication.class)
+                .run("--spring.profiles.active=loadtest",
+                        "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=postgres",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.port=0",
+                        "--management.server.port=0",
+                        "--security.rate-limit.enabled=false",
+                        "--jwt.secret=" + JWT_SECRET,
+                        "--logging.level.root=WARN");
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            TaskApiClient client = new TaskApiClient(port, clientExecutor);
+            Seed seed = seed(client, settings, mode);
+
+            LoadDriver driver = new LoadDriver(Executors.newVirtualThreadPerTaskExecutor());
+            Map<Endpoint, Histogram> latencies = driver.run(settings.rate(), settings.warmup(), settings.duration(),
+                    endpoint -> call(client, seed, endpoint));
+            return report(settings, mode, driver, latencies);
+        }
+    }
+
+    private static Seed seed(TaskApiClient client, Settings settings, String mode) throws Exception {
+        List<SeedUser> users = new ArrayList<>();
+        ConcurrentLinkedQueue<TaskRef> deletable = new ConcurrentLinkedQueue<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<SeedUser>> futures = new ArrayList<>();
+            for (int i = 0; i < settings.users(); i++) {
+                String email = mode + "-user-" + i + "@loadtest.local";
+                futures.add(executor.submit(() -> {
+                    String token = client.register(email).getToken();
+                    List<UUID> ids = new ArrayList<>();
+                    for (int remaining = settings.tasksPerUser(); remaining > 0; remaining -= 500) {
+                        ids.addAll(client.createTasks(token, Math.min(500, remaining)));
+                    }
+                    client.createTasks(token, Math.max(1, settings.tasksPerUser() / 2))
+                            .forEach(id -> deletable.add(new TaskRef(token, id)));
+                    return new SeedUser(email, token, List.copyOf(ids));
+                }));
+            }
+            for (Future<SeedUser> future : futures) {
+                users.add(future.get());
+            }
+        }
+        return new Seed(mode, List.copyOf(users), deletable, new AtomicLong());
+    }
+
+    private static boolean call(TaskApiClient client, Seed seed, Endpoint endpoint) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SeedUser user = seed.users().get(random.nextInt(seed.users().size()));
+        return switch (endpoint) {
+            case LOGIN -> client.login(user.email()) == 200;
+            case REGISTER -> client.register(seed.mode() + "-new-" + seed.registered().incrementAndGet()
+                    + "@loadtest.local") != null;
+            case LIST -> ok(client.list(user.token()));
+            case GET -> ok(client.get(user.token(), user.randomTask(random)));
+            case UPDATE -> ok(client.update(user.token(), user.randomTask(random)));
+            case CREATE -> {
+                HttpResponse<byte[]> response = client.create(user.token());
+                if (ok(response)) {
+                    seed.deletable().add(new TaskRef(user.token(), client.createdId(response)));
+                }
+                yield ok(response);
+            }
+            case DELETE -> {
+                TaskRef task = seed.deletable().poll();
+                yield task != null && client.delete(task.token(), task.id()).statusCode() == 204;
+            }
+        };
+    }
+
+    private static boolean ok(HttpResponse<byte[]> response) {
+        return response.statusCode() == 200;
+    }
+
+    /**
+     * Prints and writes the per-endpoint results and returns the endpoints whose error rate
+     * exceeded the threshold.
+     */
+    private static List<String> report(Settings settings, String mode, LoadDriver driver,
+                                       Map<Endpoint, Histogram> latencies) throws Exception {
+        PrintStream out = System.out;
+        double seconds = settings.duration().toMillis() / 1000.0;
+        out.printf("%n=== %s threads, %.0f req/s offered for %.0fs ===%n", mode, settings.rate(), seconds);
+        out.printf("%-28s %8s %7s %7s %9s %9s %9s %9s %9s %9s %11s%n", "endpoint", "ok", "errors", "err %",
+                "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "err p99 ms");
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("mode", mode);
+        summary.put("offeredRate", settings.rate());
+        summary.put("durationSeconds", seconds);
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        List<String> failures = new ArrayList<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = latencies.get(endpoint);
+            Histogram errorHistogram = driver.errorLatencies(endpoint);
+            long errors = errorHistogram.getTotalCount();
+            long total = histogram.getTotalCount() + errors;
+            double errorRate = total == 0 ? 0 : (double) errors / total;
+            out.printf("%-28s %8d %7d %7s %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %11.2f%n",
+                    endpoint.getLabel(), histogram.getTotalCount(), errors, percent(errorRate),
+                    histogram.getTotalCount() / seconds, millis(histogram, 50), millis(histogram, 90),
+                    millis(histogram, 99), millis(histogram, 99.9), histogram.getMaxValue() / 1e6,
+                    millis(errorHistogram, 99));
+            if (errorRate > settings.maxErrorRate()) {
+                failures.add(mode + " " + endpoint.getLabel() + " (" + percent(errorRate) + ")");
+            }
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("ok", histogram.getTotalCount());
+            stats.put("errors", errors);
+            stats.put("errorRate", errorRate);
+            stats.put("errorP99Ms", millis(errorHistogram, 99));
+            stats.put("p50Ms", millis(histogram, 50));
+            stats.put("p90Ms", millis(histogram, 90));
+            stats.put("p99Ms", millis(histogram, 99));
+            stats.put("p999Ms", millis(histogram, 99.9));
+            stats.put("maxMs", histogram.getMaxValue() / 1e6);
+            endpoints.put(endpoint.getLabel(), stats);
+
+            Path hgrm = settings.reportDir().resolve(mode + "-" + endpoint.name().toLowerCase() + ".hgrm");
+            try (PrintStream file = new PrintStream(Files.newOutputStream(hgrm))) {
+                histogram.outputPercentileDistribution(file, 1e6);
+            }
+            if (errors > 0) {
+                Path errorHgrm = settings.reportDir().resolve(mode + "-" + endpoint.name().toLowerCase() + "-errors.hgrm");
+                try (PrintStream file = new PrintStream(Files.newOutputStream(errorHgrm))) {
+                    errorHistogram.outputPercentileDistribution(file, 1e6);
+                }
+            }
+        }
+        summary.put("endpoints", endpoints);
+        JsonMapper.builder().build().writerWithDefaultPrettyPrinter()
+                .writeValue(settings.reportDir().resolve(mode + "-summary.json").toFile(), summary);
+        failures.forEach(failure -> out.printf("WARNING: error rate above %s for %s%n",
+                percent(settings.maxErrorRate()), failure));
+        return failures;
+    }
+
+    private static String percent(double rate) {
+        return String.format("%.2f%%", rate * 100);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1e6;
+    }
+
+    private static void truncate(EmbeddedPostgres postgres) throws Exception {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            if (connection.getMetaData().getTables(null, null, "users", null).next()) {
+                statement.execute("truncate table users cascade");
+            }
+        }
+    }
+
+    record Settings(int users, int tasksPerUser, double rate, Duration warmup, Duration duration,
+                    List<String> modes, double maxErrorRate, Path reportDir) {
+
+        static Settings fromSystemProperties() {
+            return new Settings(
+                    Integer.getInteger("loadtest.users", 50),
+                    Integer.getInteger("loadtest.tasksPerUser", 200),
+                    Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+                    Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 15)),
+                    Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 60)),
+                    List.of(System.getProperty("loadtest.modes", "platform,virtual").split(",")),
+                    Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01")),
+                    Path.of(System.getProperty("loadtest.reportDir", "target/loadtest")));
+        }
+    }
+
+    record Seed(String mode, List<SeedUser> users, ConcurrentLinkedQueue<TaskRef> deletable, AtomicLong registered) {
+    }
+
+    record SeedUser(String email, String token, List<UUID> tasks) {
+
+        UUID randomTask(ThreadLocalRandom random) {
+            return tasks.get(random.nextInt(tasks.size()));
+        }
+    }
+
+    record TaskRef(String token, UUID id) {
+    }
+}
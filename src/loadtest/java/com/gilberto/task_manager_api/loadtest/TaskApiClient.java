@@ -0,0 +1,142 @@
+package com.gilberto.task_manager_api.loadtest;
+
+import com.gilberto.task_manager_api.dto.auth.AuthResponse;
+import com.gilberto.task_manager_api.dto.auth.LoginRequest;
+import com.gilberto.task_manager_api.dto.auth.RegisterRequest;
+import com.gilberto.task_manager_api.dto.task.TaskBatchItemResult;
+import com.gilberto.task_manager_api.dto.task.TaskBatchRequest;
+import com.gilberto.task_manager_api.dto.task.TaskBatchResponse;
+import com.gilberto.task_manager_api.dto.task.TaskRequest;
+import com.gilberto.task_manager_api.dto.task.TaskResponse;
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * Thin HTTP client for the endpoints under test. Every call returns the status code and
+ * throws only on transport failures, so the driver can count non-2xx answers as errors.
+ */
+class TaskApiClient {
+
+    static final String PASSWORD = "loadtest-password";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final String baseUrl;
+
+    TaskApiClient(int port, Executor executor) {
+        this.baseUrl = "http://localhost:" + port;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    AuthResponse register(String email) throws IOException, InterruptedException {
+        RegisterRequest request = RegisterRequest.builder().nome("Load Test").email(email).senha(PASSWORD).build();
+        return read(expectOk(send(post("/api/auth/register", null, request))), AuthResponse.class);
+    }
+
+    int login(String email) throws IOException, InterruptedException {
+        LoginRequest request = LoginRequest.builder().email(email).senha(PASSWORD).build();
+        return send(post("/api/auth/login", null, request)).statusCode();
+    }
+
+    List<UUID> createTasks(String token, int count) throws IOException, InterruptedException {
+        List<TaskRequest> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task("Seeded task " + i));
+        }
+        TaskBatchResponse response = read(expectOk(send(post("/api/tasks/batch", token,
+                TaskBatchRequest.builder().tasks(tasks).build()))), TaskBatchResponse.class);
+        return response.getResults().stream()
+                .filter(TaskBatchItemResult::isCreated)
+                .map(result -> result.getTask().getId())
+                .toList();
+    }
+
+    HttpResponse<byte[]> list(String token) throws IOException, InterruptedException {
+        return send(request("/api/tasks?page=0&size=20", token).GET().build());
+    }
+
+    HttpResponse<byte[]> get(String token, UUID id) throws IOException, InterruptedException {
+        return send(request("/api/tasks/" + id, token).GET().build());
+    }
+
+    HttpResponse<byte[]> create(String token) throws IOException, InterruptedException {
+        return send(post("/api/tasks", token, task("Created under load")));
+    }
+
+    UUID createdId(HttpResponse<byte[]> response) {
+        return read(response, TaskResponse.class).getId();
+    }
+
+    HttpResponse<byte[]> update(String token, UUID id) throws IOException, InterruptedException {
+        return send(request("/api/tasks/" + id, token)
+                .header("Content-Type", "application/json")
+                .PUT(body(task("Updated under load")))
+                .build());
+    }
+
+    HttpResponse<byte[]> delete(String token, UUID id) throws IOException, InterruptedException {
+        return send(request("/api/tasks/" + id, token).DELETE().build());
+    }
+
+    private HttpRequest post(String path, String token, Object payload) {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(body(payload))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher body(Object payload) {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload));
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private <T> T read(HttpResponse<byte[]> response, Class<T> type) {
+        return objectMapper.readValue(response.body(), type);
+    }
+
+    private static HttpResponse<byte[]> expectOk(HttpResponse<byte[]> response) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(response.uri() + " returned " + response.statusCode());
+        }
+        return response;
+    }
+
+    private static TaskRequest task(String titulo) {
+        return TaskRequest.builder()
+                .titulo(titulo)
+                .descricao("Generated by the load test")
+                .status(TaskStatus.TODO)
+                .prioridade(TaskPriority.MEDIUM)
+                .categoria("loadtest")
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.gilberto.task_manager_api.config;
+
+import de.codecentric.boot.admin.server.config.EnableAdminServer;
+import de.codecentric.boot.admin.server.domain.values.Registration;
+import de.codecentric.boot.admin.server.services.InstanceRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+/**
+ * Admin server for this application. The instance registers itself in-process once it is
+ * up, so the server's HTTP registration endpoint stays behind the ADMIN role like the rest
+ * of {@code /admin}.
+ */
+@Configuration
+@EnableAdminServer
+@RequiredArgsConstructor
+public class AdminServerConfig {
+
+    private final InstanceRegistry instanceRegistry;
+    private final Environment environment;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerSelf() {
+        String serverPort = environment.getProperty("local.server.port");
+        if (serverPort == null) {
+            return;
+        }
+        String managementPort = environment.getProperty("local.management.port", serverPort);
+        String managementUrl = "http://localhost:" + managementPort + "/actuator";
+        Registration registration = Registration.create(
+                        environment.getProperty("spring.application.name", "task-manager-api"),
+                        managementUrl + "/health")
+                .managementUrl(managementUrl)
+                .serviceUrl("http://localhost:" + serverPort)
+                .build();
+        instanceRegistry.register(registration).block();
+    }
+}
@@ -3,12 +3,16 @@ package com.gilberto.task_manager_api.controller;
 import com.gilberto.task_manager_api.dto.auth.AuthResponse;
 import com.gilberto.task_manager_api.dto.auth.LoginRequest;
 import com.gilberto.task_manager_api.dto.auth.RegisterRequest;
+import com.gilberto.task_manager_api.security.AuthenticatedUser;
 import com.gilberto.task_manager_api.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -28,5 +32,18 @@ public class AuthController {
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
         return ResponseEntity.ok(userService.authenticate(request));
     }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+                                       @AuthenticationPrincipal AuthenticatedUser user) {
+        userService.logout(authorization.substring(7), user.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll(@AuthenticationPrincipal AuthenticatedUser user) {
+        userService.revokeAllTokens(user.getId());
+        return ResponseEntity.noContent().build();
+    }
 }
 
@@ -0,0 +1,82 @@
+package com.gilberto.task_manager_api.controller;
+
+import com.gilberto.task_manager_api.dto.task.TaskPageVersions;
+import com.gilberto.task_manager_api.dto.task.TaskResponse;
+import com.gilberto.task_manager_api.dto.task.TaskRowVersion;
+import com.gilberto.task_manager_api.exception.PreconditionFailedException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String forTask(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Tag of a listing page built from what its body reports: the ids and versions of its
+     * rows, whether a next page exists and the total, when the body has one.
+     */
+    static String forPage(UUID userId, Map<String, String[]> parameters, List<TaskResponse> content,
+                          boolean hasNext, Long total) {
+        return forRows(userId, parameters, content.stream()
+                .map(task -> new TaskRowVersion(task.getId(), task.getVersion()))
+                .toList(), hasNext, total);
+    }
+
+    /**
+     * Same tag as {@link #forPage(UUID, Map, List, boolean, Long)}, from versions read without
+     * loading the rows.
+     */
+    static String forPage(UUID userId, Map<String, String[]> parameters, TaskPageVersions versions) {
+        return forRows(userId, parameters, versions.getRows(), versions.isHasNext(), versions.getTotal());
+    }
+
+    /**
+     * Returns the version required by an {@code If-Match} header, or {@code null} when the
+     * header is absent or {@code *}. Weak tags never match, as required for {@code If-Match}.
+     */
+    static Long requiredVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        if (tag.startsWith("W/") || tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match must be a strong ETag");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("Task has been modified");
+        }
+    }
+
+    private static String forRows(UUID userId, Map<String, String[]> parameters, List<TaskRowVersion> rows,
+                                  boolean hasNext, Long total) {
+        StringBuilder validator = new StringBuilder().append(userId);
+        new TreeMap<>(parameters).forEach((name, values) ->
+                validator.append('|').append(name).append('=').append(String.join(",", values)));
+        rows.forEach(row -> validator.append('|').append(row.getId()).append(':').append(row.getVersion()));
+        validator.append('|').append(hasNext).append('|').append(total);
+        return "\"" + sha256(validator.toString()) + "\"";
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,19 +1,41 @@
 package com.gilberto.task_manager_api.controller;
 
+import com.gilberto.task_manager_api.dto.task.CursorPage;
+import com.gilberto.task_manager_api.dto.task.TaskBatchRequest;
+import com.gilberto.task_manager_api.dto.task.TaskBatchResponse;
+import com.gilberto.task_manager_api.dto.task.TaskBulkDeleteRequest;
+import com.gilberto.task_manager_api.dto.task.TaskBulkResponse;
+import com.gilberto.task_manager_api.dto.task.TaskBulkUpdateRequest;
+import com.gilberto.task_manager_api.dto.task.TaskCountMode;
 import com.gilberto.task_manager_api.dto.task.TaskFilter;
+import com.gilberto.task_manager_api.dto.task.TaskImportErrorResponse;
+import com.gilberto.task_manager_api.dto.task.TaskImportResponse;
+import com.gilberto.task_manager_api.dto.task.TaskPageVersions;
 import com.gilberto.task_manager_api.dto.task.TaskRequest;
 import com.gilberto.task_manager_api.dto.task.TaskResponse;
-import com.gilberto.task_manager_api.model.enums.TaskPriority;
-import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import com.gilberto.task_manager_api.dto.task.TaskStatsResponse;
+import com.gilberto.task_manager_api.model.enums.TaskFileFormat;
+import com.gilberto.task_manager_api.security.AuthenticatedUser;
+import com.gilberto.task_manager_api.service.TaskExportService;
+import com.gilberto.task_manager_api.service.TaskImportService;
 import com.gilberto.task_manager_api.service.TaskService;
+import com.gilberto.task_manager_api.service.TaskStatsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -22,40 +44,164 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskStatsService taskStatsService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
 
     @GetMapping
-    public ResponseEntity<Page<TaskResponse>> listTasks(@RequestParam(required = false) TaskStatus status,
-                                                        @RequestParam(required = false) TaskPriority prioridade,
-                                                        Pageable pageable,
-                                                        Authentication authentication) {
-        TaskFilter filter = TaskFilter.builder()
-                .status(status)
-                .prioridade(prioridade)
-                .build();
-        Page<TaskResponse> tasks = taskService.listTasks(authentication.getName(), filter, pageable);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<Slice<TaskResponse>> listTasks(TaskFilter filter,
+                                                         @RequestParam(defaultValue = "EXACT") TaskCountMode count,
+                                                         Pageable pageable,
+                                                         @AuthenticationPrincipal AuthenticatedUser user,
+                                                         WebRequest request) {
+        UUID userId = user.getId();
+        Map<String, String[]> parameters = request.getParameterMap();
+        // A cached page answers If-None-Match without a query; otherwise only the row versions
+        // are read, plus the total when the page does not reveal it.
+        if (pageable.isPaged() && request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String current = taskService.getCachedTasks(userId, filter, pageable, count)
+                    .map(cached -> pageETag(userId, parameters, cached))
+                    .orElseGet(() -> ETags.forPage(userId, parameters,
+                            taskService.getPageVersions(userId, filter, pageable, count)));
+            if (request.checkNotModified(current)) {
+                return null;
+            }
+        }
+        Slice<TaskResponse> tasks = taskService.listTasks(userId, filter, pageable, count);
+        return ResponseEntity.ok().eTag(pageETag(userId, parameters, tasks)).body(tasks);
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPage<TaskResponse>> listTasksByCursor(TaskFilter filter,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "20") int size,
+                                                                      @AuthenticationPrincipal AuthenticatedUser user,
+                                                                      WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            TaskPageVersions versions = taskService.getPageVersions(user.getId(), filter, cursor, size);
+            if (request.checkNotModified(ETags.forPage(user.getId(), request.getParameterMap(), versions))) {
+                return null;
+            }
+        }
+        CursorPage<TaskResponse> tasks = taskService.listTasks(user.getId(), filter, cursor, size);
+        String etag = ETags.forPage(user.getId(), request.getParameterMap(), tasks.getContent(),
+                tasks.getNext() != null, null);
+        return ResponseEntity.ok().eTag(etag).body(tasks);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsResponse> getStats(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(taskStatsService.getStats(user.getId()));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(TaskFilter filter,
+                                                             @RequestParam(defaultValue = "ndjson") String format,
+                                                             @AuthenticationPrincipal AuthenticatedUser user) {
+        TaskFileFormat exportFormat = TaskFileFormat.from(format);
+        UUID userId = user.getId();
+        StreamingResponseBody body = out -> taskExportService.export(userId, filter, exportFormat, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    @PostMapping("/import")
+    public ResponseEntity<TaskImportResponse> createImport(@RequestParam(defaultValue = "ndjson") String format,
+                                                           @AuthenticationPrincipal AuthenticatedUser user) {
+        TaskImportResponse response = taskImportService.createImport(user.getId(), TaskFileFormat.from(format));
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/import/{id}")
+    public ResponseEntity<TaskImportResponse> uploadImport(@PathVariable("id") UUID id,
+                                                           InputStream body,
+                                                           @AuthenticationPrincipal AuthenticatedUser user) throws IOException {
+        TaskImportResponse response = taskImportService.upload(user.getId(), id, body);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/import/{id}")
+    public ResponseEntity<TaskImportResponse> getImport(@PathVariable("id") UUID id,
+                                                        @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(taskImportService.getImport(user.getId(), id));
+    }
+
+    @GetMapping("/import/{id}/errors")
+    public ResponseEntity<Page<TaskImportErrorResponse>> getImportErrors(@PathVariable("id") UUID id,
+                                                                         Pageable pageable,
+                                                                         @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(taskImportService.getImportErrors(user.getId(), id, pageable));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskResponse> getTask(@PathVariable("id") UUID id,
+                                                @AuthenticationPrincipal AuthenticatedUser user,
+                                                WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(ETags.forTask(taskService.getTaskVersion(user.getId(), id)))) {
+            return null;
+        }
+        TaskResponse response = taskService.getTask(user.getId(), id);
+        return ResponseEntity.ok().eTag(ETags.forTask(response.getVersion())).body(response);
     }
 
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskRequest request,
-                                                   Authentication authentication) {
-        TaskResponse response = taskService.createTask(authentication.getName(), request);
+                                                   @AuthenticationPrincipal AuthenticatedUser user) {
+        TaskResponse response = taskService.createTask(user.getId(), request);
+        return ResponseEntity.ok().eTag(ETags.forTask(response.getVersion())).body(response);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponse> createTasks(@Valid @RequestBody TaskBatchRequest request,
+                                                         @AuthenticationPrincipal AuthenticatedUser user) {
+        TaskBatchResponse response = taskService.createTasks(user.getId(), request.getTasks());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/bulk-update")
+    public ResponseEntity<TaskBulkResponse> updateTasks(@Valid @RequestBody TaskBulkUpdateRequest request,
+                                                        @AuthenticationPrincipal AuthenticatedUser user) {
+        TaskBulkResponse response = taskService.updateTasks(user.getId(), request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<TaskBulkResponse> deleteTasks(@Valid @RequestBody TaskBulkDeleteRequest request,
+                                                        @AuthenticationPrincipal AuthenticatedUser user) {
+        TaskBulkResponse response = taskService.deleteTasks(user.getId(), request);
         return ResponseEntity.ok(response);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponse> updateTask(@PathVariable("id") UUID id,
                                                    @Valid @RequestBody TaskRequest request,
-                                                   Authentication authentication) {
-        TaskResponse response = taskService.updateTask(authentication.getName(), id, request);
-        return ResponseEntity.ok(response);
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                   @AuthenticationPrincipal AuthenticatedUser user) {
+        TaskResponse response = taskService.updateTask(user.getId(), id, request, ETags.requiredVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.forTask(response.getVersion())).body(response);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<TaskResponse> patchTask(@PathVariable("id") UUID id,
+                                                  @RequestBody Map<String, Object> patch,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                  @AuthenticationPrincipal AuthenticatedUser user) {
+        TaskResponse response = taskService.patchTask(user.getId(), id, patch, ETags.requiredVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.forTask(response.getVersion())).body(response);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(@PathVariable("id") UUID id,
-                                           Authentication authentication) {
-        taskService.deleteTask(authentication.getName(), id);
+                                           @AuthenticationPrincipal AuthenticatedUser user) {
+        taskService.deleteTask(user.getId(), id);
         return ResponseEntity.noContent().build();
     }
-}
 
+    private static String pageETag(UUID userId, Map<String, String[]> parameters, Slice<TaskResponse> tasks) {
+        Long total = tasks instanceof Page<TaskResponse> page ? page.getTotalElements() : null;
+        return ETags.forPage(userId, parameters, tasks.getContent(), tasks.hasNext(), total);
+    }
+}
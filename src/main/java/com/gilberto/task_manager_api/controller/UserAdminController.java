@@ -0,0 +1,27 @@
+package com.gilberto.task_manager_api.controller;
+
+import com.gilberto.task_manager_api.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class UserAdminController {
+
+    private final UserService userService;
+
+    @PostMapping("/{id}/revoke-tokens")
+    public ResponseEntity<Void> revokeTokens(@PathVariable("id") UUID id) {
+        userService.revokeAllTokens(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.gilberto.task_manager_api.dto.task;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String next;
+    private int size;
+}
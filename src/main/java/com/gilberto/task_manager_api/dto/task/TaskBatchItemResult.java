@@ -0,0 +1,17 @@
+package com.gilberto.task_manager_api.dto.task;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchItemResult {
+    private int index;
+    private boolean created;
+    private TaskResponse task;
+    private List<String> errors;
+}
@@ -0,0 +1,19 @@
+package com.gilberto.task_manager_api.dto.task;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchRequest {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<TaskRequest> tasks;
+}
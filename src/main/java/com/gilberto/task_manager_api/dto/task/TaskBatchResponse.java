@@ -0,0 +1,16 @@
+package com.gilberto.task_manager_api.dto.task;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchResponse {
+    private int created;
+    private int failed;
+    private List<TaskBatchItemResult> results;
+}
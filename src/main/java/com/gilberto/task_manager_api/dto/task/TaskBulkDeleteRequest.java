@@ -0,0 +1,20 @@
+package com.gilberto.task_manager_api.dto.task;
+
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkDeleteRequest {
+
+    @Size(max = 1000)
+    private List<UUID> ids;
+
+    private TaskFilter filter;
+}
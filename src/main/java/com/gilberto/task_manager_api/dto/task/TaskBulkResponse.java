@@ -0,0 +1,12 @@
+package com.gilberto.task_manager_api.dto.task;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkResponse {
+    private int affected;
+}
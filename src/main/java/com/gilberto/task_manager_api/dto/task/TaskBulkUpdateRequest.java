@@ -0,0 +1,28 @@
+package com.gilberto.task_manager_api.dto.task;
+
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkUpdateRequest {
+
+    @Size(max = 1000)
+    private List<UUID> ids;
+
+    private TaskFilter filter;
+
+    private TaskStatus status;
+
+    private TaskPriority prioridade;
+
+    private String categoria;
+}
@@ -0,0 +1,7 @@
+package com.gilberto.task_manager_api.dto.task;
+
+public enum TaskCountMode {
+    EXACT,
+    NONE,
+    APPROXIMATE
+}
@@ -0,0 +1,46 @@
+package com.gilberto.task_manager_api.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last task returned by a keyset page. Clients only see the encoded,
+ * opaque form and send it back unchanged to fetch the next page.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskCursor {
+
+    private static final String SEPARATOR = "_";
+
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    public static TaskCursor of(TaskResponse task) {
+        return new TaskCursor(task.getCreatedAt(), task.getId());
+    }
+
+    public static TaskCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, 2);
+            return new TaskCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,14 +3,72 @@ package com.gilberto.task_manager_api.dto.task;
 import com.gilberto.task_manager_api.model.enums.TaskPriority;
 import com.gilberto.task_manager_api.model.enums.TaskStatus;
 import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@EqualsAndHashCode
 public class TaskFilter {
     private TaskStatus status;
     private TaskPriority prioridade;
-}
+    private String categoria;
+    private String q;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueDateFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueDateTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdAfter;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdBefore;
 
+    /**
+     * Whether any field would narrow a query. Blank text fields do not, as {@code TaskQuery}
+     * ignores them.
+     */
+    public boolean hasPredicate() {
+        return status != null || prioridade != null || blankToNull(categoria) != null || blankToNull(q) != null
+                || dueDateFrom != null || dueDateTo != null || createdAfter != null || createdBefore != null;
+    }
+
+    /**
+     * Immutable copy of a filter for use as a cache key. Blank text filters are dropped, the
+     * search term is stripped and {@code categoria} is kept as given, exactly as
+     * {@code TaskQuery} applies them, so two filters share a key only when they run the same
+     * query. A {@code null} filter gives the empty key.
+     */
+    public static Key keyOf(TaskFilter filter) {
+        if (filter == null) {
+            return new Key(null, null, null, null, null, null, null, null);
+        }
+        return new Key(filter.status, filter.prioridade, blankToNull(filter.categoria), search(filter.q),
+                filter.dueDateFrom, filter.dueDateTo, filter.createdAfter, filter.createdBefore);
+    }
+
+    private static String blankToNull(String text) {
+        return text == null || text.isBlank() ? null : text;
+    }
+
+    private static String search(String q) {
+        return q == null || q.isBlank() ? null : q.strip();
+    }
+
+    public record Key(TaskStatus status, TaskPriority prioridade, String categoria, String q,
+                      LocalDate dueDateFrom, LocalDate dueDateTo,
+                      LocalDateTime createdAfter, LocalDateTime createdBefore) {
+
+        public TaskFilter toFilter() {
+            return new TaskFilter(status, prioridade, categoria, q, dueDateFrom, dueDateTo, createdAfter, createdBefore);
+        }
+    }
+}
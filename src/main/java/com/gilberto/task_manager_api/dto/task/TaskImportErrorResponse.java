@@ -0,0 +1,13 @@
+package com.gilberto.task_manager_api.dto.task;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportErrorResponse {
+    private long line;
+    private String message;
+}
@@ -0,0 +1,24 @@
+package com.gilberto.task_manager_api.dto.task;
+
+import com.gilberto.task_manager_api.model.enums.TaskFileFormat;
+import com.gilberto.task_manager_api.model.enums.TaskImportStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResponse {
+    private UUID id;
+    private TaskFileFormat format;
+    private TaskImportStatus status;
+    private long processedLines;
+    private long created;
+    private long failed;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,18 @@
+package com.gilberto.task_manager_api.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * What a listing page's tag is built from, read without loading the rows: their ids and
+ * versions, whether a next page exists and the total the body reports, if any.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskPageVersions {
+    private final List<TaskRowVersion> rows;
+    private final boolean hasNext;
+    private final Long total;
+}
@@ -22,6 +22,8 @@ public class TaskResponse {
     private String categoria;
     private LocalDate dueDate;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
     private UUID userId;
+    private Long version;
 }
 
@@ -0,0 +1,17 @@
+package com.gilberto.task_manager_api.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Id and version of one listed task. A page's rows plus whether a next page exists are
+ * enough to tell whether the page changed, without touching the rest of the listing.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskRowVersion {
+    private final UUID id;
+    private final Long version;
+}
@@ -0,0 +1,19 @@
+package com.gilberto.task_manager_api.dto.task;
+
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsResponse {
+    private long total;
+    private Map<TaskStatus, Long> byStatus;
+    private Map<TaskPriority, Long> byPrioridade;
+    private long overdue;
+}
@@ -0,0 +1,8 @@
+package com.gilberto.task_manager_api.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
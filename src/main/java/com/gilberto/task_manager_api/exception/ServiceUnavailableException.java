@@ -0,0 +1,8 @@
+package com.gilberto.task_manager_api.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,32 @@
+package com.gilberto.task_manager_api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "task_import_errors")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class TaskImportError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private long line;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String message;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "task_import_id", nullable = false,
+            foreignKey = @ForeignKey(name = "fk_task_import_error_import"))
+    private TaskImport taskImport;
+}
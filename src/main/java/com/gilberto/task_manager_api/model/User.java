@@ -3,6 +3,10 @@ package com.gilberto.task_manager_api.model;
 import com.gilberto.task_manager_api.model.enums.UserRole;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -17,6 +21,8 @@ import java.util.UUID;
         uniqueConstraints = {@UniqueConstraint(name = "uk_user_email", columnNames = "email")}
 )
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-by-email")
 @Getter
 @Setter
 @Builder
@@ -32,6 +38,7 @@ public class User {
     @Column(nullable = false)
     private String nome;
 
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String email;
 
@@ -0,0 +1,23 @@
+package com.gilberto.task_manager_api.model.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TaskFileFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static TaskFileFormat from(String format) {
+        for (TaskFileFormat candidate : values()) {
+            if (candidate.name().equalsIgnoreCase(format)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported file format: " + format);
+    }
+}
@@ -0,0 +1,8 @@
+package com.gilberto.task_manager_api.model.enums;
+
+public enum TaskImportStatus {
+    PENDING,
+    RUNNING,
+    INTERRUPTED,
+    COMPLETED
+}
@@ -0,0 +1,85 @@
+package com.gilberto.task_manager_api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Revoked token ids and the per-user "tokens issued before this instant are invalid"
+ * watermark. Timestamps come from the database clock so that every instance polling
+ * {@code revokedSince} sees the same order.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RevokedTokenRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public Revocation revoke(String jti, UUID userId, Instant expiresAt) {
+        return jdbcClient.sql("""
+                        insert into revoked_tokens (jti, user_id, expires_at)
+                        values (:jti, :userId, :expiresAt)
+                        on conflict (jti) do update set expires_at = excluded.expires_at
+                        returning jti, expires_at, revoked_at
+                        """)
+                .param("jti", jti)
+                .param("userId", userId)
+                .param("expiresAt", Timestamp.from(expiresAt))
+                .query((rs, rowNum) -> new Revocation(
+                        rs.getString("jti"),
+                        rs.getTimestamp("expires_at").toInstant(),
+                        rs.getTimestamp("revoked_at").toInstant()))
+                .single();
+    }
+
+    public Optional<Watermark> revokeAll(UUID userId) {
+        return jdbcClient.sql("""
+                        update users set tokens_valid_after = now()
+                        where id = :userId
+                        returning email, tokens_valid_after
+                        """)
+                .param("userId", userId)
+                .query((rs, rowNum) -> new Watermark(rs.getString("email"), rs.getTimestamp("tokens_valid_after").toInstant()))
+                .optional();
+    }
+
+    public List<Revocation> findRevokedSince(Instant since) {
+        return jdbcClient.sql("""
+                        select jti, expires_at, revoked_at from revoked_tokens
+                        where revoked_at > :since and expires_at > now()
+                        """)
+                .param("since", Timestamp.from(since))
+                .query((rs, rowNum) -> new Revocation(
+                        rs.getString("jti"),
+                        rs.getTimestamp("expires_at").toInstant(),
+                        rs.getTimestamp("revoked_at").toInstant()))
+                .list();
+    }
+
+    public List<Watermark> findWatermarksSince(Instant since) {
+        return jdbcClient.sql("""
+                        select email, tokens_valid_after from users
+                        where tokens_valid_after > :since
+                        """)
+                .param("since", Timestamp.from(since))
+                .query((rs, rowNum) -> new Watermark(rs.getString("email"), rs.getTimestamp("tokens_valid_after").toInstant()))
+                .list();
+    }
+
+    public int deleteExpired() {
+        return jdbcClient.sql("delete from revoked_tokens where expires_at <= now()")
+                .update();
+    }
+
+    public record Revocation(String jti, Instant expiresAt, Instant revokedAt) {
+    }
+
+    public record Watermark(String email, Instant tokensValidAfter) {
+    }
+}
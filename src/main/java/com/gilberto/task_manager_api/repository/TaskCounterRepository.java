@@ -0,0 +1,111 @@
+package com.gilberto.task_manager_api.repository;
+
+import com.gilberto.task_manager_api.dto.task.TaskStatsResponse;
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-user aggregate counters kept next to the tasks table, so statistics are read from a
+ * handful of rows instead of counting a user's tasks.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskCounterRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public void add(UUID userId, TaskStatus status, TaskPriority prioridade, long delta) {
+        jdbcClient.sql("""
+                        insert into task_counters (user_id, status, prioridade, task_count)
+                        values (:userId, :status, :prioridade, :delta)
+                        on conflict (user_id, status, prioridade)
+                        do update set task_count = task_counters.task_count + excluded.task_count
+                        """)
+                .param("userId", userId)
+                .param("status", status.name())
+                .param("prioridade", prioridade.name())
+                .param("delta", delta)
+                .update();
+    }
+
+    public void addOpenDue(UUID userId, LocalDate dueDate, long delta) {
+        jdbcClient.sql("""
+                        insert into task_due_counters (user_id, due_date, open_count)
+                        values (:userId, :dueDate, :delta)
+                        on conflict (user_id, due_date)
+                        do update set open_count = task_due_counters.open_count + excluded.open_count
+                        """)
+                .param("userId", userId)
+                .param("dueDate", dueDate)
+                .param("delta", delta)
+                .update();
+    }
+
+    public TaskStatsResponse findStats(UUID userId, LocalDate today) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<TaskPriority, Long> byPrioridade = new EnumMap<>(TaskPriority.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        for (TaskPriority prioridade : TaskPriority.values()) {
+            byPrioridade.put(prioridade, 0L);
+        }
+
+        long[] total = {0};
+        jdbcClient.sql("select status, prioridade, task_count from task_counters where user_id = :userId")
+                .param("userId", userId)
+                .query(rs -> {
+                    long count = rs.getLong("task_count");
+                    byStatus.merge(TaskStatus.valueOf(rs.getString("status")), count, Long::sum);
+                    byPrioridade.merge(TaskPriority.valueOf(rs.getString("prioridade")), count, Long::sum);
+                    total[0] += count;
+                });
+
+        long overdue = jdbcClient.sql("""
+                        select coalesce(sum(open_count), 0) from task_due_counters
+                        where user_id = :userId and due_date < :today
+                        """)
+                .param("userId", userId)
+                .param("today", today)
+                .query(Long.class)
+                .single();
+
+        return TaskStatsResponse.builder()
+                .total(total[0])
+                .byStatus(byStatus)
+                .byPrioridade(byPrioridade)
+                .overdue(overdue)
+                .build();
+    }
+
+    /**
+     * Recomputes every counter from the tasks table. The exclusive lock makes concurrent
+     * writers wait until the rebuild commits, so no delta is lost or applied twice.
+     */
+    public void rebuild() {
+        jdbcClient.sql("lock table task_counters, task_due_counters in exclusive mode").update();
+        jdbcClient.sql("delete from task_counters").update();
+        jdbcClient.sql("delete from task_due_counters").update();
+        jdbcClient.sql("""
+                        insert into task_counters (user_id, status, prioridade, task_count)
+                        select user_id, status, prioridade, count(*) from tasks
+                        group by user_id, status, prioridade
+                        """)
+                .update();
+        jdbcClient.sql("""
+                        insert into task_due_counters (user_id, due_date, open_count)
+                        select user_id, due_date, count(*) from tasks
+                        where due_date is not null and status <> 'DONE'
+                        group by user_id, due_date
+                        """)
+                .update();
+    }
+}
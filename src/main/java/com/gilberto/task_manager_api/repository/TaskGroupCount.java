@@ -0,0 +1,37 @@
+package com.gilberto.task_manager_api.repository;
+
+import com.gilberto.task_manager_api.model.Task;
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Number of tasks sharing the attributes the per-user counters are keyed by.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskGroupCount {
+    private final TaskStatus status;
+    private final TaskPriority prioridade;
+    private final LocalDate dueDate;
+    private final long count;
+
+    public static TaskGroupCount of(Task task) {
+        return new TaskGroupCount(task.getStatus(), task.getPrioridade(), task.getDueDate(), 1);
+    }
+
+    public TaskGroupCount withChanges(TaskStatus newStatus, TaskPriority newPrioridade) {
+        return new TaskGroupCount(
+                newStatus != null ? newStatus : status,
+                newPrioridade != null ? newPrioridade : prioridade,
+                dueDate,
+                count);
+    }
+
+    public boolean isOpen() {
+        return status != TaskStatus.DONE;
+    }
+}
@@ -0,0 +1,12 @@
+package com.gilberto.task_manager_api.repository;
+
+import com.gilberto.task_manager_api.model.TaskImportError;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface TaskImportErrorRepository extends JpaRepository<TaskImportError, UUID> {
+    Page<TaskImportError> findByTaskImportIdOrderByLine(UUID taskImportId, Pageable pageable);
+}
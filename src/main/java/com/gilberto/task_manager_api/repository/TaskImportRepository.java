@@ -0,0 +1,11 @@
+package com.gilberto.task_manager_api.repository;
+
+import com.gilberto.task_manager_api.model.TaskImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TaskImportRepository extends JpaRepository<TaskImport, UUID> {
+    Optional<TaskImport> findByIdAndUserId(UUID id, UUID userId);
+}
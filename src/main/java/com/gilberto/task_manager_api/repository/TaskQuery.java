@@ -0,0 +1,129 @@
+package com.gilberto.task_manager_api.repository;
+
+import com.gilberto.task_manager_api.dto.task.TaskCursor;
+import com.gilberto.task_manager_api.dto.task.TaskFilter;
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Predicates over the tasks of a single user, combined with {@code and}. Only the
+ * conditions that were actually set end up in the generated query, so every
+ * {@link TaskFilter} combination runs as one statement that starts with
+ * {@code user_id} and can use the composite indexes on {@code tasks}.
+ */
+public class TaskQuery {
+
+    private final StringBuilder where = new StringBuilder("t.user.id = :userId");
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+    private boolean search;
+
+    private TaskQuery(UUID userId) {
+        parameters.put("userId", userId);
+    }
+
+    public static TaskQuery forUser(UUID userId) {
+        return new TaskQuery(userId);
+    }
+
+    public TaskQuery filter(TaskFilter filter) {
+        if (filter == null) {
+            return this;
+        }
+        return status(filter.getStatus())
+                .prioridade(filter.getPrioridade())
+                .categoria(filter.getCategoria())
+                .dueDateBetween(filter.getDueDateFrom(), filter.getDueDateTo())
+                .createdBetween(filter.getCreatedAfter(), filter.getCreatedBefore())
+                .search(filter.getQ());
+    }
+
+    public TaskQuery ids(Collection<UUID> ids) {
+        if (ids != null && !ids.isEmpty()) {
+            and("t.id in :ids", "ids", ids);
+        }
+        return this;
+    }
+
+    public TaskQuery status(TaskStatus status) {
+        if (status != null) {
+            and("t.status = :status", "status", status);
+        }
+        return this;
+    }
+
+    public TaskQuery prioridade(TaskPriority prioridade) {
+        if (prioridade != null) {
+            and("t.prioridade = :prioridade", "prioridade", prioridade);
+        }
+        return this;
+    }
+
+    public TaskQuery categoria(String categoria) {
+        if (categoria != null && !categoria.isBlank()) {
+            and("t.categoria = :categoria", "categoria", categoria);
+        }
+        return this;
+    }
+
+    public TaskQuery dueDateBetween(LocalDate from, LocalDate to) {
+        if (from != null) {
+            and("t.dueDate >= :dueDateFrom", "dueDateFrom", from);
+        }
+        if (to != null) {
+            and("t.dueDate <= :dueDateTo", "dueDateTo", to);
+        }
+        return this;
+    }
+
+    public TaskQuery createdBetween(LocalDateTime after, LocalDateTime before) {
+        if (after != null) {
+            and("t.createdAt >= :createdAfter", "createdAfter", after);
+        }
+        if (before != null) {
+            and("t.createdAt < :createdBefore", "createdBefore", before);
+        }
+        return this;
+    }
+
+    public TaskQuery search(String q) {
+        if (q != null && !q.isBlank()) {
+            and("task_search_matches(t.titulo, t.descricao, :q) = true", "q", q.strip());
+            search = true;
+        }
+        return this;
+    }
+
+    public TaskQuery before(TaskCursor cursor) {
+        if (cursor != null) {
+            where.append(" and (t.createdAt, t.id) < (:cursorCreatedAt, :cursorId)");
+            parameters.put("cursorCreatedAt", cursor.getCreatedAt());
+            parameters.put("cursorId", cursor.getId());
+        }
+        return this;
+    }
+
+    boolean isSearch() {
+        return search;
+    }
+
+    String whereClause() {
+        return where.toString();
+    }
+
+    Map<String, Object> parameters() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    private void and(String predicate, String name, Object value) {
+        where.append(" and ").append(predicate);
+        parameters.put(name, value);
+    }
+}
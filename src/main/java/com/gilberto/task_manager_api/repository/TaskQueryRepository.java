@@ -0,0 +1,58 @@
+package com.gilberto.task_manager_api.repository;
+
+import com.gilberto.task_manager_api.dto.task.TaskResponse;
+import com.gilberto.task_manager_api.dto.task.TaskRowVersion;
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Read paths over {@link TaskQuery}. Rows are selected straight into {@link TaskResponse},
+ * so no {@code Task} entity, snapshot or {@code User} proxy is created while listing.
+ */
+public interface TaskQueryRepository {
+
+    List<TaskResponse> findNewestFirst(TaskQuery query, int limit);
+
+    /**
+     * Streams every matching task newest first from a forward-only cursor. Must be consumed
+     * and closed inside a transaction so the driver honours {@code fetchSize}.
+     */
+    Stream<TaskResponse> streamNewestFirst(TaskQuery query, int fetchSize);
+
+    Page<TaskResponse> findPage(TaskQuery query, Pageable pageable);
+
+    Slice<TaskResponse> findSlice(TaskQuery query, Pageable pageable);
+
+    long countMatching(TaskQuery query);
+
+    /**
+     * Ids and versions of the rows {@link #findSlice} would return for the same page, plus
+     * one extra row when a next page exists. The pageable must be paged.
+     */
+    List<TaskRowVersion> findVersions(TaskQuery query, Pageable pageable);
+
+    /**
+     * Ids and versions of the rows {@link #findNewestFirst} would return for the same limit.
+     */
+    List<TaskRowVersion> findVersionsNewestFirst(TaskQuery query, int limit);
+
+    List<TaskGroupCount> countGroups(TaskQuery query);
+
+    int updateMatching(TaskQuery query, TaskStatus status, TaskPriority prioridade, String categoria);
+
+    int deleteMatching(TaskQuery query);
+
+    /**
+     * Deletes the task in a single statement and returns the counter group it belonged to,
+     * or empty when the user owns no such task.
+     */
+    Optional<TaskGroupCount> deleteOwned(UUID id, UUID userId);
+}
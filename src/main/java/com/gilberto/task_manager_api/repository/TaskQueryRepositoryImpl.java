@@ -0,0 +1,250 @@
+package com.gilberto.task_manager_api.repository;
+
+import com.gilberto.task_manager_api.dto.task.TaskResponse;
+import com.gilberto.task_manager_api.dto.task.TaskRowVersion;
+import com.gilberto.task_manager_api.model.Task;
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class TaskQueryRepositoryImpl implements TaskQueryRepository {
+
+    private static final String SELECT_RESPONSE = "select new " + TaskResponse.class.getName() + "("
+            + "t.id, t.titulo, t.descricao, t.status, t.prioridade, t.categoria, t.dueDate,"
+            + " t.createdAt, t.updatedAt, t.user.id, t.version)"
+            + " from Task t where ";
+    private static final String NEWEST_FIRST = "t.createdAt desc, t.id desc";
+    private static final String BEST_MATCH_FIRST = "task_search_rank(t.titulo, t.descricao, :q) desc, " + NEWEST_FIRST;
+    private static final Set<String> SORTABLE_PROPERTIES =
+            Set.of("titulo", "status", "prioridade", "categoria", "dueDate", "createdAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final MeterRegistry meterRegistry;
+
+    public TaskQueryRepositoryImpl(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public List<TaskResponse> findNewestFirst(TaskQuery query, int limit) {
+        return timed("cursor", () -> select(query, NEWEST_FIRST)
+                .setMaxResults(limit)
+                .getResultList());
+    }
+
+    @Override
+    public Stream<TaskResponse> streamNewestFirst(TaskQuery query, int fetchSize) {
+        return select(query, NEWEST_FIRST)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Page<TaskResponse> findPage(TaskQuery query, Pageable pageable) {
+        TypedQuery<TaskResponse> typedQuery = select(query, orderBy(query, pageable.getSort()));
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize());
+        }
+        List<TaskResponse> tasks = timed("page", typedQuery::getResultList);
+        return PageableExecutionUtils.getPage(tasks, pageable, () -> countMatching(query));
+    }
+
+    @Override
+    public Slice<TaskResponse> findSlice(TaskQuery query, Pageable pageable) {
+        TypedQuery<TaskResponse> typedQuery = select(query, orderBy(query, pageable.getSort()));
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(timed("slice", typedQuery::getResultList));
+        }
+
+        typedQuery.setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1);
+        List<TaskResponse> tasks = timed("slice", typedQuery::getResultList);
+        boolean hasNext = tasks.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? tasks.subList(0, pageable.getPageSize()) : tasks, pageable, hasNext);
+    }
+
+    @Override
+    public long countMatching(TaskQuery query) {
+        TypedQuery<Long> typedQuery = entityManager.createQuery(
+                "select count(t) from Task t where " + query.whereClause(), Long.class);
+        query.parameters().forEach(typedQuery::setParameter);
+        return timed("count", typedQuery::getSingleResult);
+    }
+
+    @Override
+    public List<TaskRowVersion> findVersions(TaskQuery query, Pageable pageable) {
+        TypedQuery<TaskRowVersion> typedQuery = selectVersions(query, orderBy(query, pageable.getSort()))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1);
+        return timed("version", typedQuery::getResultList);
+    }
+
+    @Override
+    public List<TaskRowVersion> findVersionsNewestFirst(TaskQuery query, int limit) {
+        TypedQuery<TaskRowVersion> typedQuery = selectVersions(query, NEWEST_FIRST)
+                .setMaxResults(limit);
+        return timed("version", typedQuery::getResultList);
+    }
+
+    @Override
+    public List<TaskGroupCount> countGroups(TaskQuery query) {
+        TypedQuery<TaskGroupCount> typedQuery = entityManager.createQuery(
+                "select new " + TaskGroupCount.class.getName() + "(t.status, t.prioridade, t.dueDate, count(t))"
+                        + " from Task t where " + query.whereClause()
+                        + " group by t.status, t.prioridade, t.dueDate", TaskGroupCount.class);
+        query.parameters().forEach(typedQuery::setParameter);
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public int updateMatching(TaskQuery query, TaskStatus status, TaskPriority prioridade, String categoria) {
+        StringJoiner assignments = new StringJoiner(", ").add("t.updatedAt = :updatedAt");
+        if (status != null) {
+            assignments.add("t.status = :newStatus");
+        }
+        if (prioridade != null) {
+            assignments.add("t.prioridade = :newPrioridade");
+        }
+        if (categoria != null) {
+            assignments.add("t.categoria = :newCategoria");
+        }
+
+        Query update = entityManager.createQuery(
+                "update versioned Task t set " + assignments + " where " + query.whereClause());
+        query.parameters().forEach(update::setParameter);
+        update.setParameter("updatedAt", LocalDateTime.now());
+        if (status != null) {
+            update.setParameter("newStatus", status);
+        }
+        if (prioridade != null) {
+            update.setParameter("newPrioridade", prioridade);
+        }
+        if (categoria != null) {
+            update.setParameter("newCategoria", categoria);
+        }
+        return update.executeUpdate();
+    }
+
+    @Override
+    public int deleteMatching(TaskQuery query) {
+        Query delete = entityManager.createQuery("delete from Task t where " + query.whereClause());
+        query.parameters().forEach(delete::setParameter);
+        return delete.executeUpdate();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<TaskGroupCount> deleteOwned(UUID id, UUID userId) {
+        List<Object[]> deleted = entityManager.createNativeQuery(
+                        "delete from tasks where id = :id and user_id = :userId returning status, prioridade, due_date")
+                .unwrap(NativeQuery.class)
+                .addScalar("status", String.class)
+                .addScalar("prioridade", String.class)
+                .addScalar("due_date", LocalDate.class)
+                .setParameter("id", id)
+                .setParameter("userId", userId)
+                .getResultList();
+        evictAfterCommit(id);
+        return deleted.stream()
+                .findFirst()
+                .map(row -> new TaskGroupCount(
+                        TaskStatus.valueOf((String) row[0]),
+                        TaskPriority.valueOf((String) row[1]),
+                        (LocalDate) row[2],
+                        1));
+    }
+
+    /**
+     * The native delete bypasses the second-level cache. The entry is evicted right away, and
+     * again after commit in case a concurrent read cached the row before the delete was visible.
+     */
+    private void evictAfterCommit(UUID id) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(Task.class, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evict(Task.class, id);
+                }
+            });
+        }
+    }
+
+    private TypedQuery<TaskResponse> select(TaskQuery query, String orderBy) {
+        TypedQuery<TaskResponse> typedQuery = entityManager.createQuery(
+                SELECT_RESPONSE + query.whereClause() + " order by " + orderBy, TaskResponse.class);
+        query.parameters().forEach(typedQuery::setParameter);
+        return typedQuery;
+    }
+
+    private TypedQuery<TaskRowVersion> selectVersions(TaskQuery query, String orderBy) {
+        TypedQuery<TaskRowVersion> typedQuery = entityManager.createQuery(
+                "select new " + TaskRowVersion.class.getName() + "(t.id, t.version) from Task t where "
+                        + query.whereClause() + " order by " + orderBy, TaskRowVersion.class);
+        query.parameters().forEach(typedQuery::setParameter);
+        return typedQuery;
+    }
+
+    private <T> T timed(String name, Supplier<T> query) {
+        T result = Timer.builder("tasks.query")
+                .description("Time to run a task listing query")
+                .tag("query", name)
+                .register(meterRegistry)
+                .record(query);
+        if (result instanceof List<?> rows) {
+            DistributionSummary.builder("tasks.query.rows")
+                    .description("Rows returned by a task listing query")
+                    .tag("query", name)
+                    .register(meterRegistry)
+                    .record(rows.size());
+        }
+        return result;
+    }
+
+    private static String orderBy(TaskQuery query, Sort sort) {
+        if (sort.isUnsorted()) {
+            return query.isSearch() ? BEST_MATCH_FIRST : NEWEST_FIRST;
+        }
+
+        StringJoiner orderBy = new StringJoiner(", ");
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Cannot sort by " + order.getProperty());
+            }
+            orderBy.add("t." + order.getProperty() + (order.isAscending() ? " asc" : " desc"));
+        }
+        return orderBy.add("t.id").toString();
+    }
+}
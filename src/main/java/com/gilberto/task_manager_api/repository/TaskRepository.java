@@ -1,24 +1,22 @@
 package com.gilberto.task_manager_api.repository;
 
 import com.gilberto.task_manager_api.model.Task;
-import com.gilberto.task_manager_api.model.enums.TaskPriority;
-import com.gilberto.task_manager_api.model.enums.TaskStatus;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.UUID;
 
-public interface TaskRepository extends JpaRepository<Task, UUID> {
-    Optional<Task> findByIdAndUserId(UUID id, UUID userId);
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskQueryRepository {
 
-    Page<Task> findAllByUserId(UUID userId, Pageable pageable);
+    /**
+     * Loads by id, which the second-level cache can answer, and checks ownership in memory.
+     */
+    default Optional<Task> findByIdAndUserId(UUID id, UUID userId) {
+        return findById(id).filter(task -> task.getUser().getId().equals(userId));
+    }
 
-    Page<Task> findAllByUserIdAndStatus(UUID userId, TaskStatus status, Pageable pageable);
-
-    Page<Task> findAllByUserIdAndPrioridade(UUID userId, TaskPriority prioridade, Pageable pageable);
-
-    Page<Task> findAllByUserIdAndStatusAndPrioridade(UUID userId, TaskStatus status, TaskPriority prioridade, Pageable pageable);
+    @Query("select t.version from Task t where t.id = :id and t.user.id = :userId")
+    Optional<Long> findVersionByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
 }
-
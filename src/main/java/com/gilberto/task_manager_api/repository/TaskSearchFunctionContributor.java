@@ -0,0 +1,32 @@
+package com.gilberto.task_manager_api.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the full-text search functions used by {@link TaskQuery#search(String)}.
+ * The document expression must stay identical to the one indexed by
+ * {@code idx_tasks_search} (V4 migration), otherwise PostgreSQL will not use the index.
+ */
+public class TaskSearchFunctionContributor implements FunctionContributor {
+
+    private static final String DOCUMENT =
+            "(setweight(to_tsvector('simple', coalesce(?1, '')), 'A')"
+                    + " || setweight(to_tsvector('simple', coalesce(?2, '')), 'B'))";
+    private static final String QUERY = "websearch_to_tsquery('simple', ?3)";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        functionContributions.getFunctionRegistry().registerPattern(
+                "task_search_matches",
+                DOCUMENT + " @@ " + QUERY,
+                types.resolve(StandardBasicTypes.BOOLEAN));
+        functionContributions.getFunctionRegistry().registerPattern(
+                "task_search_rank",
+                "ts_rank(" + DOCUMENT + ", " + QUERY + ")",
+                types.resolve(StandardBasicTypes.FLOAT));
+    }
+}
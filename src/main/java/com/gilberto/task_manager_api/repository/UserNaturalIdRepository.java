@@ -0,0 +1,14 @@
+package com.gilberto.task_manager_api.repository;
+
+import com.gilberto.task_manager_api.model.User;
+
+import java.util.Optional;
+
+public interface UserNaturalIdRepository {
+
+    /**
+     * Looks the user up by its natural id, so repeated lookups are served from the
+     * natural-id and entity caches without touching the database.
+     */
+    Optional<User> findByEmail(String email);
+}
@@ -2,12 +2,19 @@ package com.gilberto.task_manager_api.repository;
 
 import com.gilberto.task_manager_api.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
 import java.util.UUID;
 
-public interface UserRepository extends JpaRepository<User, UUID> {
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, UUID>, UserNaturalIdRepository {
     boolean existsByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.senha = :senha where u.id = :id")
+    int updateSenha(@Param("id") UUID id, @Param("senha") String senha);
 }
 
@@ -0,0 +1,41 @@
+package com.gilberto.task_manager_api.security;
+
+import com.gilberto.task_manager_api.model.enums.UserRole;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@RequiredArgsConstructor
+public class AuthenticatedUser implements UserDetails {
+
+    private final UUID id;
+    private final String email;
+    private final UserRole role;
+    private final List<GrantedAuthority> authorities;
+
+    public static AuthenticatedUser of(UUID id, String email, UserRole role) {
+        return new AuthenticatedUser(id, email, role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -1,14 +1,15 @@
 package com.gilberto.task_manager_api.security;
 
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -16,11 +17,25 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final Timer claimsLookup;
+    private final Timer storeLookup;
+
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsServiceImpl userDetailsService,
+                                   PrincipalCache principalCache, TokenRevocationService tokenRevocationService,
+                                   MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.claimsLookup = lookupTimer(meterRegistry, "claims");
+        this.storeLookup = lookupTimer(meterRegistry, "store");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -33,15 +48,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String jwt = authHeader.substring(7);
-        final String username = jwtService.extractUsername(jwt);
+        final JwtClaims claims;
+        try {
+            claims = jwtService.parseToken(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            // Expired, malformed or forged tokens continue as anonymous so the rate limiter still
+            // counts them against the client address and the entry point answers 401/403.
+            filterChain.doFilter(request, response);
+            return;
+        }
+        final String username = claims.getSubject();
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && !tokenRevocationService.isRevoked(claims)) {
+            AuthenticatedUser principal = resolvePrincipal(claims);
+            if (jwtService.isTokenValid(claims, principal)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
+                        principal,
                         null,
-                        userDetails.getAuthorities()
+                        principal.getAuthorities()
                 );
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -51,10 +76,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private AuthenticatedUser resolvePrincipal(JwtClaims claims) {
+        if (claims.hasPrincipal()) {
+            return claimsLookup.record(() ->
+                    AuthenticatedUser.of(claims.getUserId(), claims.getSubject(), claims.getRole()));
+        }
+        return storeLookup.record(() ->
+                principalCache.get(claims.getSubject(), userDetailsService::loadPrincipalByUsername));
+    }
+
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("security.principal.lookup")
+                .description("Time to resolve the authenticated user of a request")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getServletPath();
-        return path.startsWith("/api/auth");
+        return path.equals("/api/auth/login") || path.equals("/api/auth/register");
     }
 }
-
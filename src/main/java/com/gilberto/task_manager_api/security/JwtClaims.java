@@ -0,0 +1,65 @@
+package com.gilberto.task_manager_api.security;
+
+import com.gilberto.task_manager_api.model.enums.UserRole;
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Claims of a token whose signature has already been verified, so callers can read
+ * the subject and expiration as many times as needed without parsing the token again.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtClaims {
+
+    private final String tokenId;
+    private final String subject;
+    private final Date issuedAt;
+    private final long issuedAtMillis;
+    private final Date expiration;
+    private final UUID userId;
+    private final UserRole role;
+    private final Claims claims;
+
+    static JwtClaims from(Claims claims) {
+        String userId = claims.get(JwtService.USER_ID_CLAIM, String.class);
+        String role = claims.get(JwtService.ROLE_CLAIM, String.class);
+        Long issuedAtMillis = claims.get(JwtService.ISSUED_AT_MILLIS_CLAIM, Long.class);
+        return new JwtClaims(
+                claims.getId(),
+                claims.getSubject(),
+                claims.getIssuedAt(),
+                issuedAtMillis != null ? issuedAtMillis : latestMillisOf(claims.getIssuedAt()),
+                claims.getExpiration(),
+                userId != null ? UUID.fromString(userId) : null,
+                role != null ? UserRole.valueOf(role) : null,
+                claims
+        );
+    }
+
+    public boolean hasPrincipal() {
+        return userId != null && role != null;
+    }
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+
+    /**
+     * Tokens issued before the {@code iat_ms} claim only carry {@code iat} in seconds; they are
+     * treated as issued at the end of that second so a watermark in the same second still applies.
+     */
+    private static long latestMillisOf(Date issuedAt) {
+        return issuedAt.getTime() / 1000 * 1000 + 999;
+    }
+
+    long nanosUntilExpiration() {
+        long millis = expiration.getTime() - System.currentTimeMillis();
+        return Math.max(0, millis) * 1_000_000L;
+    }
+}
@@ -1,24 +1,43 @@
 package com.gilberto.task_manager_api.security;
 
+import com.gilberto.task_manager_api.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -26,17 +45,72 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private long expirationMillis;
 
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    private final MeterRegistry meterRegistry;
+    private Key signInKey;
+    private JwtParser parser;
+    private Cache<String, JwtClaims> verifiedTokens;
+    private Timer cachedParse;
+    private Timer verifiedParse;
+
+    public JwtService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new UntilTokenExpiration())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified-tokens");
+        cachedParse = parseTimer("hit");
+        verifiedParse = parseTimer("miss");
+    }
+
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseToken(token).getSubject();
     }
 
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return parseToken(token).getExpiration();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(parseToken(token).getClaims());
+    }
+
+    /**
+     * Verifies the token signature once and returns its claims. Verified tokens are kept,
+     * keyed by their SHA-256 digest, until they expire or are evicted by size.
+     */
+    public JwtClaims parseToken(String token) {
+        long start = System.nanoTime();
+        String digest = digest(token);
+        JwtClaims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            cachedParse.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+
+        JwtClaims verified = JwtClaims.from(parser.parseClaimsJws(token).getBody());
+        verifiedTokens.put(digest, verified);
+        verifiedParse.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return verified;
+    }
+
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, user.getId().toString());
+        claims.put(ROLE_CLAIM, user.getRole().name());
+        return generateToken(claims, user.getEmail());
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -44,37 +118,62 @@ public class JwtService {
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
+        return generateToken(extraClaims, userDetails.getUsername());
+    }
+
+    private String generateToken(Map<String, Object> extraClaims, String subject) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + expirationMillis);
         return Jwts.builder()
                 .setClaims(extraClaims)
-                .setSubject(userDetails.getUsername())
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())
+                .setId(UUID.randomUUID().toString())
+                .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return isTokenValid(parseToken(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(JwtClaims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !claims.isExpired();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private Timer parseTimer(String cache) {
+        return Timer.builder("jwt.parse")
+                .description("Time to parse and verify a bearer token")
+                .tag("cache", cache)
+                .register(meterRegistry);
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static class UntilTokenExpiration implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String digest, JwtClaims claims, long currentTime) {
+            return claims.nanosUntilExpiration();
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, JwtClaims claims, long currentTime, long currentDuration) {
+            return claims.nanosUntilExpiration();
+        }
+
+        @Override
+        public long expireAfterRead(String digest, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,46 @@
+package com.gilberto.task_manager_api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Principals loaded from the database for tokens that do not carry the user id and role
+ * claims. Entries must be evicted whenever the role or the credentials of a user change.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, AuthenticatedUser> principals;
+
+    public PrincipalCache(@Value("${security.principal-cache.enabled:true}") boolean enabled,
+                          @Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${security.principal-cache.ttl:5m}") Duration ttl) {
+        this.principals = enabled
+                ? Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build()
+                : null;
+    }
+
+    public AuthenticatedUser get(String email, Function<String, AuthenticatedUser> loader) {
+        if (principals == null) {
+            return loader.apply(email);
+        }
+        return principals.get(email, loader);
+    }
+
+    public void evict(String email) {
+        if (principals != null) {
+            principals.invalidate(email);
+        }
+    }
+
+    public void evictAll() {
+        if (principals != null) {
+            principals.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.gilberto.task_manager_api.security;
+
+import com.gilberto.task_manager_api.exception.ApiError;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles requests per route and per client. Runs after {@link JwtAuthenticationFilter},
+ * so authenticated requests are counted against their user and anonymous ones, such as
+ * login and register, against the client IP. Rejected requests get 429 with Retry-After.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final List<LimitedRoute> routes;
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = properties.isEnabled();
+        this.objectMapper = objectMapper;
+        this.routes = properties.getRoutes().stream()
+                .map(LimitedRoute::of)
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        int route = matchingRoute(request);
+        if (route < 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(route + ":" + clientKey(request), routes.get(route).limit(), System.nanoTime());
+        if (waitNanos > 0) {
+            reject(request, response, waitNanos);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private int matchingRoute(HttpServletRequest request) {
+        PathContainer path = null;
+        for (int i = 0; i < routes.size(); i++) {
+            LimitedRoute route = routes.get(i);
+            if (route.method() != null && !route.method().equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            if (path == null) {
+                path = PathContainer.parsePath(request.getRequestURI());
+            }
+            if (route.pattern().matches(path)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return "user:" + user.getUsername();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(TimeUnit.NANOSECONDS.toSeconds(waitNanos - 1) + 1));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiError.builder()
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message("Too many requests, try again later")
+                .errors(List.of())
+                .path(request.getRequestURI())
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    private record LimitedRoute(String method, PathPattern pattern, RateLimiter.Limit limit) {
+
+        static LimitedRoute of(RateLimitProperties.Route route) {
+            return new LimitedRoute(
+                    route.getMethod(),
+                    PathPatternParser.defaultInstance.parse(route.getPattern()),
+                    RateLimiter.Limit.of(route.getCapacity(), route.getRefillPerSecond()));
+        }
+    }
+}
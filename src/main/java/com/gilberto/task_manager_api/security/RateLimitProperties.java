@@ -0,0 +1,36 @@
+package com.gilberto.task_manager_api.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request limits per route. The first route whose method and path pattern match a request
+ * applies; requests matching no route are not limited.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        /** HTTP method to match, or {@code null} for any. */
+        private String method;
+        private String pattern;
+        /** Requests a client may send at once before being throttled. */
+        private int capacity;
+        /** Sustained requests per second once the burst is spent. */
+        private double refillPerSecond;
+    }
+}
@@ -0,0 +1,70 @@
+package com.gilberto.task_manager_api.security;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets kept as a single timestamp each (GCRA): the time at which the bucket would
+ * be full again. Taking a token is one CAS on that timestamp, so requests never block each
+ * other, and buckets idle for longer than {@code idle-timeout} are full and can be dropped.
+ */
+@Component
+public class RateLimiter {
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>(1024);
+    private final long idleNanos;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.idleNanos = properties.getIdleTimeout().toNanos();
+    }
+
+    /**
+     * Takes a token from the bucket of {@code key}.
+     *
+     * @return 0 when the request may proceed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, Limit limit, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt - now, 0) + limit.intervalNanos();
+            if (next > limit.burstNanos()) {
+                return next - limit.burstNanos();
+            }
+            if (bucket.compareAndSet(fullAt, now + next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    @Scheduled(fixedDelayString = "${security.rate-limit.sweep-interval:1m}")
+    public void evictIdle() {
+        evictIdle(System.nanoTime());
+    }
+
+    void evictIdle(long now) {
+        buckets.values().removeIf(bucket -> now - bucket.get() > idleNanos);
+    }
+
+    public record Limit(long intervalNanos, long burstNanos) {
+
+        public static Limit of(int capacity, double refillPerSecond) {
+            if (capacity < 1 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("Rate limit needs a positive capacity and refill rate");
+            }
+            long interval = (long) (1_000_000_000L / refillPerSecond);
+            return new Limit(interval, interval * capacity);
+        }
+    }
+}
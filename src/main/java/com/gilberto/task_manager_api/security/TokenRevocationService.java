@@ -0,0 +1,101 @@
+package com.gilberto.task_manager_api.security;
+
+import com.gilberto.task_manager_api.repository.RevokedTokenRepository;
+import com.gilberto.task_manager_api.repository.RevokedTokenRepository.Revocation;
+import com.gilberto.task_manager_api.repository.RevokedTokenRepository.Watermark;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers "is this token revoked?" from memory. Revoked token ids and per-user watermarks
+ * are loaded at startup and then polled incrementally, so revocations made on other
+ * instances apply within {@code refresh-interval}. Only state that can still affect an
+ * unexpired token is kept.
+ *
+ * <p>Watermarks are compared in milliseconds against the {@code iat_ms} claim, because
+ * {@code iat} has second precision and would either keep tokens issued just before a
+ * logout-all or reject a login made in the same second after it.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(30);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Duration tokenLifetime;
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<String, Long> tokensValidAfter = new ConcurrentHashMap<>();
+    private volatile Instant lastRevokedAt = Instant.EPOCH;
+    private volatile Instant lastValidAfter = Instant.EPOCH;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  @Value("${jwt.expiration}") long expirationMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenLifetime = Duration.ofMillis(expirationMillis);
+    }
+
+    @PostConstruct
+    void load() {
+        Instant oldestValid = Instant.now().minus(tokenLifetime);
+        lastRevokedAt = oldestValid;
+        lastValidAfter = oldestValid;
+        refresh();
+    }
+
+    public boolean isRevoked(JwtClaims claims) {
+        if (claims.getTokenId() != null && revokedTokens.containsKey(claims.getTokenId())) {
+            return true;
+        }
+        Long validAfter = tokensValidAfter.get(claims.getSubject());
+        return validAfter != null && claims.getIssuedAtMillis() < validAfter;
+    }
+
+    public void revoke(JwtClaims claims, UUID userId) {
+        if (claims.getTokenId() == null) {
+            throw new IllegalArgumentException("Token cannot be revoked individually");
+        }
+        add(revokedTokenRepository.revoke(claims.getTokenId(), userId, claims.getExpiration().toInstant()));
+    }
+
+    public void revokeAll(UUID userId) {
+        add(revokedTokenRepository.revokeAll(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found")));
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.refresh-interval:10s}")
+    public void refresh() {
+        revokedTokenRepository.findRevokedSince(lastRevokedAt.minus(REFRESH_OVERLAP)).forEach(this::add);
+        revokedTokenRepository.findWatermarksSince(lastValidAfter.minus(REFRESH_OVERLAP)).forEach(this::add);
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.purge-interval:10m}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        long oldestValid = now - tokenLifetime.toMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        tokensValidAfter.values().removeIf(validAfter -> validAfter < oldestValid);
+        revokedTokenRepository.deleteExpired();
+    }
+
+    private void add(Revocation revocation) {
+        revokedTokens.put(revocation.jti(), revocation.expiresAt().toEpochMilli());
+        if (revocation.revokedAt().isAfter(lastRevokedAt)) {
+            lastRevokedAt = revocation.revokedAt();
+        }
+    }
+
+    private void add(Watermark watermark) {
+        tokensValidAfter.merge(watermark.email(), watermark.tokensValidAfter().toEpochMilli(), Math::max);
+        if (watermark.tokensValidAfter().isAfter(lastValidAfter)) {
+            lastValidAfter = watermark.tokensValidAfter();
+        }
+    }
+}
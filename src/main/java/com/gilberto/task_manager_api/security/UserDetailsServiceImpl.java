@@ -29,5 +29,11 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 List.of(new SimpleGrantedAuthority(roleName))
         );
     }
+
+    public AuthenticatedUser loadPrincipalByUsername(String username) throws UsernameNotFoundException {
+        User user = userRepository.findByEmail(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        return AuthenticatedUser.of(user.getId(), user.getEmail(), user.getRole());
+    }
 }
 
@@ -0,0 +1,42 @@
+package com.gilberto.task_manager_api.service;
+
+import com.gilberto.task_manager_api.dto.task.TaskFilter;
+import com.gilberto.task_manager_api.repository.TaskQuery;
+import com.gilberto.task_manager_api.repository.TaskRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Approximate task totals per user and filter. A stale total is served while it is
+ * recounted in the background, so callers never wait on the count query after the
+ * first one.
+ */
+@Component
+public class TaskCountCache {
+
+    private final LoadingCache<Key, Long> totals;
+
+    public TaskCountCache(TaskRepository taskRepository,
+                          @Value("${tasks.count-cache.max-size:10000}") long maxSize,
+                          @Value("${tasks.count-cache.refresh-after:30s}") Duration refreshAfter,
+                          @Value("${tasks.count-cache.expire-after:10m}") Duration expireAfter) {
+        this.totals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterAccess(expireAfter)
+                .build(key -> taskRepository.countMatching(
+                        TaskQuery.forUser(key.userId()).filter(key.filter().toFilter())));
+    }
+
+    public long approximateTotal(UUID userId, TaskFilter filter) {
+        return totals.get(new Key(userId, TaskFilter.keyOf(filter)));
+    }
+
+    private record Key(UUID userId, TaskFilter.Key filter) {
+    }
+}
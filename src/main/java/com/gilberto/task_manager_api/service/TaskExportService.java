@@ -0,0 +1,121 @@
+package com.gilberto.task_manager_api.service;
+
+import com.gilberto.task_manager_api.dto.task.TaskFilter;
+import com.gilberto.task_manager_api.dto.task.TaskResponse;
+import com.gilberto.task_manager_api.model.enums.TaskFileFormat;
+import com.gilberto.task_manager_api.repository.TaskQuery;
+import com.gilberto.task_manager_api.repository.TaskRepository;
+import com.gilberto.task_manager_api.web.ConcurrencyLimiter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Writes a user's tasks to an output stream straight from a forward-only cursor. Rows are
+ * fetched {@value #FETCH_SIZE} at a time and serialized one by one, so memory use does not
+ * depend on how many tasks are exported. The export runs on an async thread after the request
+ * handler returns, so it takes its own concurrency permit around the streaming transaction.
+ */
+@Service
+public class TaskExportService {
+
+    static final int FETCH_SIZE = 500;
+    private static final String CSV_HEADER =
+            "id,titulo,descricao,status,prioridade,categoria,dueDate,createdAt,updatedAt,version";
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TaskExportService(TaskRepository taskRepository, ObjectMapper objectMapper,
+                             ConcurrencyLimiter concurrencyLimiter, PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public long export(UUID userId, TaskFilter filter, TaskFileFormat format, OutputStream out) throws IOException {
+        TaskQuery query = TaskQuery.forUser(userId).filter(filter);
+        try (ConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire()) {
+            return readOnlyTransaction.execute(status -> {
+                try {
+                    return write(query, format, out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long write(TaskQuery query, TaskFileFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long exported = 0;
+        try (Stream<TaskResponse> tasks = taskRepository.streamNewestFirst(query, FETCH_SIZE)) {
+            if (format == TaskFileFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            for (Iterator<TaskResponse> it = tasks.iterator(); it.hasNext(); exported++) {
+                TaskResponse task = it.next();
+                if (format == TaskFileFormat.CSV) {
+                    writeCsv(writer, task);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(task));
+                }
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+        return exported;
+    }
+
+    private static void writeCsv(Writer writer, TaskResponse task) throws IOException {
+        writer.write(String.valueOf(task.getId()));
+        writer.write(',');
+        writer.write(csv(task.getTitulo()));
+        writer.write(',');
+        writer.write(csv(task.getDescricao()));
+        writer.write(',');
+        writer.write(csv(task.getStatus()));
+        writer.write(',');
+        writer.write(csv(task.getPrioridade()));
+        writer.write(',');
+        writer.write(csv(task.getCategoria()));
+        writer.write(',');
+        writer.write(csv(task.getDueDate()));
+        writer.write(',');
+        writer.write(csv(task.getCreatedAt()));
+        writer.write(',');
+        writer.write(csv(task.getUpdatedAt()));
+        writer.write(',');
+        writer.write(csv(task.getVersion()));
+    }
+
+    static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
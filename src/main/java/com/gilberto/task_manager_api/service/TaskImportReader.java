@@ -0,0 +1,246 @@
+package com.gilberto.task_manager_api.service;
+
+import com.gilberto.task_manager_api.dto.task.TaskRequest;
+import com.gilberto.task_manager_api.model.enums.TaskFileFormat;
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads an NDJSON or CSV upload one record at a time. Records are numbered by the input line
+ * they start on, so a resumed upload can skip everything up to the last committed line. A
+ * record that cannot be parsed is returned with an error instead of aborting the import.
+ */
+final class TaskImportReader {
+
+    /** Most physical lines one CSV record may span before it is reported as unterminated. */
+    static final int MAX_RECORD_LINES = 100;
+    /** Most characters one CSV record may hold before it is reported as unterminated. */
+    static final int MAX_RECORD_CHARS = 64 * 1024;
+
+    private final BufferedReader reader;
+    private final TaskFileFormat format;
+    private final ObjectMapper objectMapper;
+    private long line;
+    private Map<String, Integer> columns;
+
+    TaskImportReader(BufferedReader reader, TaskFileFormat format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns up to {@code size} records, or an empty list once the input is exhausted.
+     */
+    List<Record> nextChunk(int size) throws IOException {
+        List<Record> chunk = new ArrayList<>(size);
+        Record record;
+        while (chunk.size() < size && (record = next()) != null) {
+            chunk.add(record);
+        }
+        return chunk;
+    }
+
+    long lastLine() {
+        return line;
+    }
+
+    private Record next() throws IOException {
+        return format == TaskFileFormat.CSV ? nextCsv() : nextJson();
+    }
+
+    private Record nextJson() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        try {
+            return Record.parsed(line, objectMapper.readValue(text, TaskRequest.class));
+        } catch (JacksonException e) {
+            return Record.failed(line, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private Record nextCsv() throws IOException {
+        if (columns == null) {
+            CsvRecord header = readCsvRecord();
+            if (header == null) {
+                return null;
+            }
+            columns = new HashMap<>();
+            List<String> names = splitCsv(header.text());
+            for (int i = 0; i < names.size(); i++) {
+                columns.put(names.get(i).strip(), i);
+            }
+            if (!columns.containsKey("titulo")) {
+                throw new IllegalArgumentException("CSV header must contain a titulo column");
+            }
+        }
+
+        CsvRecord record;
+        do {
+            record = readCsvRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.text().isBlank());
+        long start = record.line();
+
+        if (!record.terminated()) {
+            return Record.failed(start, "Unterminated quoted field");
+        }
+        List<String> values = splitCsv(record.text());
+        try {
+            return Record.parsed(start, TaskRequest.builder()
+                    .titulo(column(values, "titulo"))
+                    .descricao(column(values, "descricao"))
+                    .status(enumColumn(values, "status", TaskStatus.class))
+                    .prioridade(enumColumn(values, "prioridade", TaskPriority.class))
+                    .categoria(column(values, "categoria"))
+                    .dueDate(dateColumn(values))
+                    .build());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Record.failed(start, e.getMessage());
+        }
+    }
+
+    /**
+     * Reads physical lines until no quoted field is left open, so quoted fields may span lines.
+     * A record that is still open after {@link #MAX_RECORD_LINES} lines, {@link #MAX_RECORD_CHARS}
+     * characters or at the end of the input comes back unterminated, and reading resumes on the
+     * next line.
+     */
+    private CsvRecord readCsvRecord() throws IOException {
+        String text = reader.readLine();
+        if (text == null) {
+            return null;
+        }
+        long start = ++line;
+        boolean quoted = endsQuoted(text, false);
+        if (!quoted) {
+            return new CsvRecord(start, text, true);
+        }
+        StringBuilder record = new StringBuilder(text);
+        int lines = 1;
+        while (quoted && lines < MAX_RECORD_LINES && record.length() < MAX_RECORD_CHARS) {
+            String continuation = reader.readLine();
+            if (continuation == null) {
+                break;
+            }
+            line++;
+            lines++;
+            record.append('\n').append(continuation);
+            quoted = endsQuoted(continuation, true);
+        }
+        return new CsvRecord(start, record.toString(), !quoted);
+    }
+
+    /**
+     * Whether a quoted field is still open at the end of {@code text}, given whether one was
+     * open at its start. As in RFC 4180 a quote only opens a field at its start; elsewhere in
+     * an unquoted field it is an ordinary character.
+     */
+    private static boolean endsQuoted(String text, boolean quoted) {
+        boolean fieldStart = !quoted;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else {
+                fieldStart = c == ',';
+            }
+        }
+        return quoted;
+    }
+
+    private String column(List<String> values, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= values.size() || values.get(index).isEmpty()) {
+            return null;
+        }
+        return values.get(index);
+    }
+
+    private <E extends Enum<E>> E enumColumn(List<String> values, String name, Class<E> type) {
+        String value = column(values, name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.strip());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private LocalDate dateColumn(List<String> values) {
+        String value = column(values, "dueDate");
+        return value != null ? LocalDate.parse(value.strip()) : null;
+    }
+
+    static List<String> splitCsv(String record) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c != '\r') {
+                value.append(c);
+            }
+            fieldStart = !quoted && c == ',';
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private record CsvRecord(long line, String text, boolean terminated) {
+    }
+
+    record Record(long line, TaskRequest request, String error) {
+
+        static Record parsed(long line, TaskRequest request) {
+            return new Record(line, request, null);
+        }
+
+        static Record failed(long line, String error) {
+            return new Record(line, null, error);
+        }
+    }
+}
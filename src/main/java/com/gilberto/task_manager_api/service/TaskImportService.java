@@ -0,0 +1,205 @@
+package com.gilberto.task_manager_api.service;
+
+import com.gilberto.task_manager_api.dto.task.TaskBatchItemResult;
+import com.gilberto.task_manager_api.dto.task.TaskBatchResponse;
+import com.gilberto.task_manager_api.dto.task.TaskImportErrorResponse;
+import com.gilberto.task_manager_api.dto.task.TaskImportResponse;
+import com.gilberto.task_manager_api.dto.task.TaskRequest;
+import com.gilberto.task_manager_api.exception.PreconditionFailedException;
+import com.gilberto.task_manager_api.model.TaskImport;
+import com.gilberto.task_manager_api.model.TaskImportError;
+import com.gilberto.task_manager_api.model.enums.TaskFileFormat;
+import com.gilberto.task_manager_api.model.enums.TaskImportStatus;
+import com.gilberto.task_manager_api.repository.TaskImportErrorRepository;
+import com.gilberto.task_manager_api.repository.TaskImportRepository;
+import com.gilberto.task_manager_api.repository.UserRepository;
+import com.gilberto.task_manager_api.web.ConcurrencyLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Imports tasks from an upload while it is being received. Every {@value #CHUNK_SIZE}
+ * records are validated and written in their own transaction together with the import's
+ * progress, so a dropped connection loses at most the chunk in flight. A concurrency permit
+ * is held only while a transaction runs, not while waiting on the client for more data.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskImportService {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final TaskImportRepository taskImportRepository;
+    private final TaskImportErrorRepository taskImportErrorRepository;
+    private final UserRepository userRepository;
+    private final TaskService taskService;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public TaskImportResponse createImport(UUID userId, TaskFileFormat format) {
+        TaskImport taskImport = taskImportRepository.save(TaskImport.builder()
+                .format(format)
+                .status(TaskImportStatus.PENDING)
+                .user(userRepository.getReferenceById(userId))
+                .build());
+        return toResponse(taskImport);
+    }
+
+    /**
+     * Reads the upload for an import. The whole file is expected every time: lines already
+     * covered by a committed chunk are parsed but skipped, so after a dropped connection the
+     * client simply sends the file again.
+     */
+    public TaskImportResponse upload(UUID userId, UUID importId, InputStream body) throws IOException {
+        TaskImport taskImport = inTransaction(status -> {
+            TaskImport found = findOwnedImport(userId, importId);
+            if (found.getStatus() == TaskImportStatus.COMPLETED) {
+                throw new IllegalArgumentException("Import already completed");
+            }
+            found.setStatus(TaskImportStatus.RUNNING);
+            return taskImportRepository.saveAndFlush(found);
+        });
+        return run(userId, importId, taskImport.getFormat(), taskImport.getProcessedLines(), body);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskImportResponse getImport(UUID userId, UUID importId) {
+        return toResponse(findOwnedImport(userId, importId));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TaskImportErrorResponse> getImportErrors(UUID userId, UUID importId, Pageable pageable) {
+        findOwnedImport(userId, importId);
+        return taskImportErrorRepository.findByTaskImportIdOrderByLine(importId, pageable)
+                .map(error -> TaskImportErrorResponse.builder()
+                        .line(error.getLine())
+                        .message(error.getMessage())
+                        .build());
+    }
+
+    private TaskImportResponse run(UUID userId, UUID importId, TaskFileFormat format, long skipThrough,
+                                   InputStream body) throws IOException {
+        TaskImportReader reader = new TaskImportReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), format, objectMapper);
+        long committed = skipThrough;
+        try {
+            List<TaskImportReader.Record> chunk;
+            while (!(chunk = reader.nextChunk(CHUNK_SIZE)).isEmpty()) {
+                List<TaskImportReader.Record> pending = chunk.stream()
+                        .filter(record -> record.line() > skipThrough)
+                        .toList();
+                if (!pending.isEmpty()) {
+                    long expected = committed;
+                    long through = reader.lastLine();
+                    inTransaction(status -> {
+                        writeChunk(userId, importId, expected, through, pending);
+                        return null;
+                    });
+                    committed = through;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            try {
+                finish(importId, TaskImportStatus.INTERRUPTED);
+            } catch (RuntimeException finishFailure) {
+                e.addSuppressed(finishFailure);
+            }
+            throw e;
+        }
+        return finish(importId, TaskImportStatus.COMPLETED);
+    }
+
+    private void writeChunk(UUID userId, UUID importId, long expectedProcessedLines, long through,
+                            List<TaskImportReader.Record> records) {
+        TaskImport taskImport = taskImportRepository.findById(importId).orElseThrow();
+        if (taskImport.getProcessedLines() != expectedProcessedLines) {
+            throw new PreconditionFailedException("Import is being resumed by another request");
+        }
+
+        List<TaskImportError> errors = new ArrayList<>();
+        List<TaskImportReader.Record> parsed = new ArrayList<>(records.size());
+        for (TaskImportReader.Record record : records) {
+            if (record.error() != null) {
+                errors.add(error(taskImport, record.line(), record.error()));
+            } else {
+                parsed.add(record);
+            }
+        }
+
+        long created = 0;
+        if (!parsed.isEmpty()) {
+            List<TaskRequest> requests = parsed.stream().map(TaskImportReader.Record::request).toList();
+            TaskBatchResponse batch = taskService.createTasks(userId, requests);
+            created = batch.getCreated();
+            for (TaskBatchItemResult result : batch.getResults()) {
+                if (!result.isCreated()) {
+                    errors.add(error(taskImport, parsed.get(result.getIndex()).line(),
+                            String.join("; ", result.getErrors())));
+                }
+            }
+        }
+        taskImportErrorRepository.saveAll(errors);
+
+        taskImport.setProcessedLines(through);
+        taskImport.setCreated(taskImport.getCreated() + created);
+        taskImport.setFailed(taskImport.getFailed() + errors.size());
+        taskImportRepository.flush();
+    }
+
+    private TaskImportResponse finish(UUID importId, TaskImportStatus status) {
+        return inTransaction(tx -> {
+            TaskImport taskImport = taskImportRepository.findById(importId).orElseThrow();
+            taskImport.setStatus(status);
+            return toResponse(taskImportRepository.saveAndFlush(taskImport));
+        });
+    }
+
+    private <T> T inTransaction(TransactionCallback<T> action) {
+        try (ConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire()) {
+            return transactionTemplate.execute(action);
+        }
+    }
+
+    private TaskImport findOwnedImport(UUID userId, UUID importId) {
+        return taskImportRepository.findByIdAndUserId(importId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("Import not found"));
+    }
+
+    private static TaskImportError error(TaskImport taskImport, long line, String message) {
+        return TaskImportError.builder()
+                .taskImport(taskImport)
+                .line(line)
+                .message(message)
+                .build();
+    }
+
+    private static TaskImportResponse toResponse(TaskImport taskImport) {
+        return TaskImportResponse.builder()
+                .id(taskImport.getId())
+                .format(taskImport.getFormat())
+                .status(taskImport.getStatus())
+                .processedLines(taskImport.getProcessedLines())
+                .created(taskImport.getCreated())
+                .failed(taskImport.getFailed())
+                .createdAt(taskImport.getCreatedAt())
+                .updatedAt(taskImport.getUpdatedAt())
+                .build();
+    }
+}
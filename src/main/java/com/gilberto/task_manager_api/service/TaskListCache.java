@@ -0,0 +1,95 @@
+package com.gilberto.task_manager_api.service;
+
+import com.gilberto.task_manager_api.dto.task.TaskCountMode;
+import com.gilberto.task_manager_api.dto.task.TaskFilter;
+import com.gilberto.task_manager_api.dto.task.TaskResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Task list pages per user, filter, page, sort and count mode. Entries are tagged with the
+ * user's current generation; a write bumps the generation, which makes every cached page
+ * of that user unreachable at once, and the old entries age out by size or time.
+ *
+ * <p>Generations are drawn from one global sequence, so a user whose generation was evicted
+ * never gets back a value that older pages were stored under. Writes made on other instances
+ * are only seen once entries expire.
+ */
+@Component
+public class TaskListCache {
+
+    private final AtomicLong generationSequence = new AtomicLong();
+    private final Cache<UUID, Long> generations;
+    private final Cache<Key, Slice<TaskResponse>> pages;
+
+    public TaskListCache(MeterRegistry meterRegistry,
+                         @Value("${tasks.list-cache.max-size:10000}") long maxSize,
+                         @Value("${tasks.list-cache.expire-after:30s}") Duration expireAfter) {
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfter)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "tasks.list");
+        Gauge.builder("tasks.list.cache.hit.ratio", pages, cache -> cache.stats().hitRate())
+                .description("Share of task list requests answered from the cache")
+                .register(meterRegistry);
+    }
+
+    public Slice<TaskResponse> get(UUID userId, TaskFilter filter, Pageable pageable, TaskCountMode countMode,
+                                   Supplier<Slice<TaskResponse>> loader) {
+        Key key = new Key(userId, generation(userId), TaskFilter.keyOf(filter), pageable, countMode);
+        return pages.get(key, k -> loader.get());
+    }
+
+    public Slice<TaskResponse> getIfPresent(UUID userId, TaskFilter filter, Pageable pageable,
+                                            TaskCountMode countMode) {
+        return pages.getIfPresent(new Key(userId, generation(userId), TaskFilter.keyOf(filter), pageable, countMode));
+    }
+
+    /**
+     * Invalidates every cached page of the user. Inside a transaction the bump happens once it
+     * completes, so a concurrent read cannot cache the pre-commit rows under the new generation.
+     */
+    public void invalidate(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump(userId);
+                }
+            });
+        } else {
+            bump(userId);
+        }
+    }
+
+    private long generation(UUID userId) {
+        return generations.get(userId, id -> generationSequence.incrementAndGet());
+    }
+
+    private void bump(UUID userId) {
+        generations.put(userId, generationSequence.incrementAndGet());
+    }
+
+    private record Key(UUID userId, long generation, TaskFilter.Key filter, Pageable pageable,
+                       TaskCountMode countMode) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.gilberto.task_manager_api.service;
+
+import com.gilberto.task_manager_api.model.Task;
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * Applies an RFC 7396 JSON Merge Patch to a task: members that are absent stay untouched,
+ * {@code null} clears optional fields, and any other value replaces the current one.
+ */
+final class TaskMergePatch {
+
+    private TaskMergePatch() {
+    }
+
+    static void apply(Map<String, Object> patch, Task task) {
+        if (patch == null || patch.isEmpty()) {
+            throw new IllegalArgumentException("Patch must change at least one field");
+        }
+        patch.forEach((field, value) -> {
+            switch (field) {
+                case "titulo" -> {
+                    String titulo = string(field, value);
+                    if (titulo == null || titulo.isBlank()) {
+                        throw new IllegalArgumentException("titulo must not be blank");
+                    }
+                    task.setTitulo(titulo);
+                }
+                case "descricao" -> task.setDescricao(string(field, value));
+                case "status" -> task.setStatus(required(field, value, TaskStatus.class));
+                case "prioridade" -> task.setPrioridade(required(field, value, TaskPriority.class));
+                case "categoria" -> task.setCategoria(string(field, value));
+                case "dueDate" -> task.setDueDate(date(field, value));
+                default -> throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        });
+    }
+
+    private static String string(String field, Object value) {
+        if (value != null && !(value instanceof String)) {
+            throw new IllegalArgumentException(field + " must be a string");
+        }
+        return (String) value;
+    }
+
+    private static <E extends Enum<E>> E required(String field, Object value, Class<E> type) {
+        String name = string(field, value);
+        if (name == null) {
+            throw new IllegalArgumentException(field + " must not be null");
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + name);
+        }
+    }
+
+    private static LocalDate date(String field, Object value) {
+        String date = string(field, value);
+        try {
+            return date != null ? LocalDate.parse(date) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + date);
+        }
+    }
+}
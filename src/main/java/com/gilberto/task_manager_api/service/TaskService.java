@@ -1,69 +1,225 @@
 package com.gilberto.task_manager_api.service;
 
+import com.gilberto.task_manager_api.dto.task.CursorPage;
+import com.gilberto.task_manager_api.dto.task.TaskBatchItemResult;
+import com.gilberto.task_manager_api.dto.task.TaskBatchResponse;
+import com.gilberto.task_manager_api.dto.task.TaskBulkDeleteRequest;
+import com.gilberto.task_manager_api.dto.task.TaskBulkResponse;
+import com.gilberto.task_manager_api.dto.task.TaskBulkUpdateRequest;
+import com.gilberto.task_manager_api.dto.task.TaskCountMode;
+import com.gilberto.task_manager_api.dto.task.TaskCursor;
 import com.gilberto.task_manager_api.dto.task.TaskFilter;
+import com.gilberto.task_manager_api.dto.task.TaskPageVersions;
 import com.gilberto.task_manager_api.dto.task.TaskRequest;
 import com.gilberto.task_manager_api.dto.task.TaskResponse;
+import com.gilberto.task_manager_api.dto.task.TaskRowVersion;
+import com.gilberto.task_manager_api.exception.PreconditionFailedException;
 import com.gilberto.task_manager_api.model.Task;
 import com.gilberto.task_manager_api.model.User;
+import com.gilberto.task_manager_api.repository.TaskGroupCount;
+import com.gilberto.task_manager_api.repository.TaskQuery;
 import com.gilberto.task_manager_api.repository.TaskRepository;
 import com.gilberto.task_manager_api.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
+@Timed("task.service")
 @RequiredArgsConstructor
 public class TaskService {
 
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+    static final int MAX_BATCH_SIZE = 500;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TaskCountCache taskCountCache;
+    private final TaskListCache taskListCache;
+    private final TaskStatsService taskStatsService;
+    private final Validator validator;
 
-    public Page<TaskResponse> listTasks(String userEmail, TaskFilter filter, Pageable pageable) {
-        User user = getUserByEmail(userEmail);
+    @Transactional(readOnly = true)
+    public TaskResponse getTask(UUID userId, UUID taskId) {
+        List<TaskResponse> tasks = taskRepository.findNewestFirst(TaskQuery.forUser(userId).ids(List.of(taskId)), 1);
+        if (tasks.isEmpty()) {
+            throw new IllegalArgumentException("Task not found");
+        }
+        return tasks.get(0);
+    }
+
+    @Transactional(readOnly = true)
+    public long getTaskVersion(UUID userId, UUID taskId) {
+        return taskRepository.findVersionByIdAndUserId(taskId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("Task not found"));
+    }
 
-        if (filter != null && filter.getStatus() != null && filter.getPrioridade() != null) {
-            return taskRepository.findAllByUserIdAndStatusAndPrioridade(user.getId(), filter.getStatus(), filter.getPrioridade(), pageable)
-                    .map(this::toResponse);
+    /**
+     * Row versions, next page and total of one page of
+     * {@link #listTasks(UUID, TaskFilter, Pageable, TaskCountMode)} without loading the rows.
+     * An exact total is only counted when the page itself does not reveal it, the same way
+     * the page query does.
+     */
+    @Transactional(readOnly = true)
+    public TaskPageVersions getPageVersions(UUID userId, TaskFilter filter, Pageable pageable, TaskCountMode countMode) {
+        TaskQuery query = TaskQuery.forUser(userId).filter(filter);
+        List<TaskRowVersion> versions = taskRepository.findVersions(query, pageable);
+        boolean hasNext = versions.size() > pageable.getPageSize();
+        List<TaskRowVersion> rows = hasNext ? versions.subList(0, pageable.getPageSize()) : versions;
+        TaskCountMode mode = countMode != null ? countMode : TaskCountMode.EXACT;
+        if (mode == TaskCountMode.NONE) {
+            return new TaskPageVersions(rows, hasNext, null);
         }
-        if (filter != null && filter.getStatus() != null) {
-            return taskRepository.findAllByUserIdAndStatus(user.getId(), filter.getStatus(), pageable)
-                    .map(this::toResponse);
+        // Built like the page the body would carry, so next page and total agree with it.
+        Page<TaskRowVersion> page = mode == TaskCountMode.APPROXIMATE
+                ? new PageImpl<>(rows, pageable, taskCountCache.approximateTotal(userId, filter))
+                : PageableExecutionUtils.getPage(rows, pageable, () -> taskRepository.countMatching(query));
+        return new TaskPageVersions(rows, page.hasNext(), page.getTotalElements());
+    }
+
+    /**
+     * Row versions and next page of one page of {@link #listTasks(UUID, TaskFilter, String, int)}.
+     */
+    @Transactional(readOnly = true)
+    public TaskPageVersions getPageVersions(UUID userId, TaskFilter filter, String cursor, int size) {
+        checkCursorPageSize(size);
+        TaskQuery query = TaskQuery.forUser(userId)
+                .filter(filter)
+                .before(TaskCursor.decode(cursor));
+        List<TaskRowVersion> versions = taskRepository.findVersionsNewestFirst(query, size + 1);
+        boolean hasNext = versions.size() > size;
+        return new TaskPageVersions(hasNext ? versions.subList(0, size) : versions, hasNext, null);
+    }
+
+    /**
+     * The page {@link #listTasks(UUID, TaskFilter, Pageable, TaskCountMode)} would serve from
+     * {@link TaskListCache}, if it is cached.
+     */
+    public Optional<Slice<TaskResponse>> getCachedTasks(UUID userId, TaskFilter filter, Pageable pageable,
+                                                        TaskCountMode countMode) {
+        TaskCountMode mode = countMode != null ? countMode : TaskCountMode.EXACT;
+        return Optional.ofNullable(taskListCache.getIfPresent(userId, filter, pageable, mode));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> listTasks(UUID userId, TaskFilter filter, Pageable pageable) {
+        TaskQuery query = TaskQuery.forUser(userId).filter(filter);
+        return taskRepository.findPage(query, pageable);
+    }
+
+    /**
+     * Served from {@link TaskListCache}. Not transactional, so a cache hit does not check out
+     * a connection; on a miss each query runs on its own, as it would under read committed.
+     */
+    public Slice<TaskResponse> listTasks(UUID userId, TaskFilter filter, Pageable pageable, TaskCountMode countMode) {
+        TaskCountMode mode = countMode != null ? countMode : TaskCountMode.EXACT;
+        return taskListCache.get(userId, filter, pageable, mode, () -> loadTasks(userId, filter, pageable, mode));
+    }
+
+    private Slice<TaskResponse> loadTasks(UUID userId, TaskFilter filter, Pageable pageable, TaskCountMode countMode) {
+        if (countMode == TaskCountMode.EXACT) {
+            return listTasks(userId, filter, pageable);
         }
-        if (filter != null && filter.getPrioridade() != null) {
-            return taskRepository.findAllByUserIdAndPrioridade(user.getId(), filter.getPrioridade(), pageable)
-                    .map(this::toResponse);
+
+        TaskQuery query = TaskQuery.forUser(userId).filter(filter);
+        Slice<TaskResponse> slice = taskRepository.findSlice(query, pageable);
+        if (countMode == TaskCountMode.NONE) {
+            return slice;
         }
-        return taskRepository.findAllByUserId(user.getId(), pageable)
-                .map(this::toResponse);
+        return new PageImpl<>(slice.getContent(), pageable, taskCountCache.approximateTotal(userId, filter));
     }
 
-    @Transactional
-    public TaskResponse createTask(String userEmail, TaskRequest request) {
-        User user = getUserByEmail(userEmail);
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> listTasks(UUID userId, TaskFilter filter, String cursor, int size) {
+        checkCursorPageSize(size);
 
-        Task task = Task.builder()
-                .titulo(request.getTitulo())
-                .descricao(request.getDescricao())
-                .status(request.getStatus())
-                .prioridade(request.getPrioridade())
-                .categoria(request.getCategoria())
-                .dueDate(request.getDueDate())
-                .user(user)
+        TaskQuery query = TaskQuery.forUser(userId)
+                .filter(filter)
+                .before(TaskCursor.decode(cursor));
+        List<TaskResponse> tasks = taskRepository.findNewestFirst(query, size + 1);
+
+        boolean hasNext = tasks.size() > size;
+        List<TaskResponse> content = hasNext ? tasks.subList(0, size) : tasks;
+        return CursorPage.<TaskResponse>builder()
+                .content(content)
+                .next(hasNext ? TaskCursor.of(content.get(size - 1)).encode() : null)
+                .size(size)
                 .build();
+    }
 
-        Task saved = taskRepository.save(task);
+    @Transactional
+    public TaskResponse createTask(UUID userId, TaskRequest request) {
+        Task saved = taskRepository.save(toTask(request, userRepository.getReferenceById(userId)));
+        taskStatsService.apply(userId, List.of(), List.of(TaskGroupCount.of(saved)));
+        taskListCache.invalidate(userId);
         return toResponse(saved);
     }
 
     @Transactional
-    public TaskResponse updateTask(String userEmail, UUID taskId, TaskRequest request) {
-        User user = getUserByEmail(userEmail);
-        Task task = taskRepository.findByIdAndUserId(taskId, user.getId())
-                .orElseThrow(() -> new IllegalArgumentException("Task not found"));
+    public TaskBatchResponse createTasks(UUID userId, List<TaskRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must contain between 1 and " + MAX_BATCH_SIZE + " tasks");
+        }
+
+        User user = userRepository.getReferenceById(userId);
+        TaskBatchItemResult[] results = new TaskBatchItemResult[requests.size()];
+        List<Task> tasks = new ArrayList<>(requests.size());
+        List<Integer> indexes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            List<String> errors = validate(requests.get(i));
+            if (errors.isEmpty()) {
+                tasks.add(toTask(requests.get(i), user));
+                indexes.add(i);
+            } else {
+                results[i] = TaskBatchItemResult.builder().index(i).created(false).errors(errors).build();
+            }
+        }
+
+        List<Task> saved = taskRepository.saveAll(tasks);
+        taskRepository.flush();
+        taskStatsService.apply(userId, List.of(), saved.stream().map(TaskGroupCount::of).toList());
+        taskListCache.invalidate(userId);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = indexes.get(i);
+            results[index] = TaskBatchItemResult.builder()
+                    .index(index)
+                    .created(true)
+                    .task(toResponse(saved.get(i)))
+                    .errors(List.of())
+                    .build();
+        }
+
+        return TaskBatchResponse.builder()
+                .created(saved.size())
+                .failed(requests.size() - saved.size())
+                .results(List.of(results))
+                .build();
+    }
+
+    @Transactional
+    public TaskResponse updateTask(UUID userId, UUID taskId, TaskRequest request) {
+        return updateTask(userId, taskId, request, null);
+    }
+
+    @Transactional
+    public TaskResponse updateTask(UUID userId, UUID taskId, TaskRequest request, Long expectedVersion) {
+        Task task = findOwnedTask(userId, taskId, expectedVersion);
+        TaskGroupCount before = TaskGroupCount.of(task);
 
         task.setTitulo(request.getTitulo());
         task.setDescricao(request.getDescricao());
@@ -72,20 +228,102 @@ public class TaskService {
         task.setCategoria(request.getCategoria());
         task.setDueDate(request.getDueDate());
 
-        return toResponse(task);
+        taskStatsService.apply(userId, List.of(before), List.of(TaskGroupCount.of(task)));
+        taskListCache.invalidate(userId);
+        return toResponse(taskRepository.saveAndFlush(task));
     }
 
+    /**
+     * Applies a JSON Merge Patch. Only the columns whose values actually change are written,
+     * so a status move does not rewrite the description.
+     */
     @Transactional
-    public void deleteTask(String userEmail, UUID taskId) {
-        User user = getUserByEmail(userEmail);
-        Task task = taskRepository.findByIdAndUserId(taskId, user.getId())
+    public TaskResponse patchTask(UUID userId, UUID taskId, Map<String, Object> patch, Long expectedVersion) {
+        Task task = findOwnedTask(userId, taskId, expectedVersion);
+        TaskGroupCount before = TaskGroupCount.of(task);
+        TaskMergePatch.apply(patch, task);
+        taskStatsService.apply(userId, List.of(before), List.of(TaskGroupCount.of(task)));
+        taskListCache.invalidate(userId);
+        return toResponse(taskRepository.saveAndFlush(task));
+    }
+
+    @Transactional
+    public void deleteTask(UUID userId, UUID taskId) {
+        TaskGroupCount deleted = taskRepository.deleteOwned(taskId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found"));
-        taskRepository.delete(task);
+        taskStatsService.apply(userId, List.of(deleted), List.of());
+        taskListCache.invalidate(userId);
     }
 
-    private User getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+    @Transactional
+    public TaskBulkResponse updateTasks(UUID userId, TaskBulkUpdateRequest request) {
+        if (request.getStatus() == null && request.getPrioridade() == null && request.getCategoria() == null) {
+            throw new IllegalArgumentException("Nothing to update");
+        }
+        TaskQuery query = bulkSelection(userId, request.getIds(), request.getFilter());
+        List<TaskGroupCount> before = taskRepository.countGroups(query);
+        int affected = taskRepository.updateMatching(query, request.getStatus(), request.getPrioridade(), request.getCategoria());
+        taskStatsService.apply(userId, before, before.stream()
+                .map(group -> group.withChanges(request.getStatus(), request.getPrioridade()))
+                .toList());
+        taskListCache.invalidate(userId);
+        return TaskBulkResponse.builder().affected(affected).build();
+    }
+
+    @Transactional
+    public TaskBulkResponse deleteTasks(UUID userId, TaskBulkDeleteRequest request) {
+        TaskQuery query = bulkSelection(userId, request.getIds(), request.getFilter());
+        List<TaskGroupCount> before = taskRepository.countGroups(query);
+        int affected = taskRepository.deleteMatching(query);
+        taskStatsService.apply(userId, before, List.of());
+        taskListCache.invalidate(userId);
+        return TaskBulkResponse.builder().affected(affected).build();
+    }
+
+    private Task findOwnedTask(UUID userId, UUID taskId, Long expectedVersion) {
+        Task task = taskRepository.findByIdAndUserId(taskId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("Task not found"));
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task has been modified");
+        }
+        return task;
+    }
+
+    private static void checkCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+    }
+
+    private TaskQuery bulkSelection(UUID userId, List<UUID> ids, TaskFilter filter) {
+        if ((ids == null || ids.isEmpty()) && (filter == null || !filter.hasPredicate())) {
+            throw new IllegalArgumentException("Either ids or a filter with at least one field must be provided");
+        }
+        return TaskQuery.forUser(userId)
+                .ids(ids)
+                .filter(filter);
+    }
+
+    private List<String> validate(TaskRequest request) {
+        if (request == null) {
+            return List.of("task: must not be null");
+        }
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .toList();
+    }
+
+    private Task toTask(TaskRequest request, User user) {
+        return Task.builder()
+                .titulo(request.getTitulo())
+                .descricao(request.getDescricao())
+                .status(request.getStatus())
+                .prioridade(request.getPrioridade())
+                .categoria(request.getCategoria())
+                .dueDate(request.getDueDate())
+                .user(user)
+                .build();
     }
 
     private TaskResponse toResponse(Task task) {
@@ -98,8 +336,9 @@ public class TaskService {
                 .categoria(task.getCategoria())
                 .dueDate(task.getDueDate())
                 .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
                 .userId(task.getUser().getId())
+                .version(task.getVersion())
                 .build();
     }
 }
-
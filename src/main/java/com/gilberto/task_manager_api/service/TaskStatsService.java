@@ -0,0 +1,69 @@
+package com.gilberto.task_manager_api.service;
+
+import com.gilberto.task_manager_api.dto.task.TaskStatsResponse;
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import com.gilberto.task_manager_api.repository.TaskCounterRepository;
+import com.gilberto.task_manager_api.repository.TaskGroupCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class TaskStatsService {
+
+    private final TaskCounterRepository taskCounterRepository;
+
+    @Transactional(readOnly = true)
+    public TaskStatsResponse getStats(UUID userId) {
+        return taskCounterRepository.findStats(userId, LocalDate.now());
+    }
+
+    /**
+     * Moves the counters of {@code userId} from the {@code removed} groups to the
+     * {@code added} ones within the caller's transaction. Net-zero deltas are not written.
+     */
+    @Transactional
+    public void apply(UUID userId, Collection<TaskGroupCount> removed, Collection<TaskGroupCount> added) {
+        Map<CounterKey, Long> counters = new HashMap<>();
+        Map<LocalDate, Long> openDue = new HashMap<>();
+        removed.forEach(group -> accumulate(group, -group.getCount(), counters, openDue));
+        added.forEach(group -> accumulate(group, group.getCount(), counters, openDue));
+
+        counters.forEach((key, delta) -> {
+            if (delta != 0) {
+                taskCounterRepository.add(userId, key.status(), key.prioridade(), delta);
+            }
+        });
+        openDue.forEach((dueDate, delta) -> {
+            if (delta != 0) {
+                taskCounterRepository.addOpenDue(userId, dueDate, delta);
+            }
+        });
+    }
+
+    @Transactional
+    @Scheduled(cron = "${tasks.stats.rebuild-cron:0 0 3 * * *}")
+    public void rebuild() {
+        taskCounterRepository.rebuild();
+    }
+
+    private static void accumulate(TaskGroupCount group, long delta,
+                                   Map<CounterKey, Long> counters, Map<LocalDate, Long> openDue) {
+        counters.merge(new CounterKey(group.getStatus(), group.getPrioridade()), delta, Long::sum);
+        if (group.isOpen() && group.getDueDate() != null) {
+            openDue.merge(group.getDueDate(), delta, Long::sum);
+        }
+    }
+
+    private record CounterKey(TaskStatus status, TaskPriority prioridade) {
+    }
+}
@@ -7,39 +7,62 @@ import com.gilberto.task_manager_api.model.User;
 import com.gilberto.task_manager_api.model.enums.UserRole;
 import com.gilberto.task_manager_api.repository.UserRepository;
 import com.gilberto.task_manager_api.security.JwtService;
+import com.gilberto.task_manager_api.security.PasswordHashingService;
+import com.gilberto.task_manager_api.security.PrincipalCache;
+import com.gilberto.task_manager_api.security.TokenRevocationService;
+import com.gilberto.task_manager_api.web.ConcurrencyLimiter;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+import java.util.function.Supplier;
 
 @Service
+@Timed("user.service")
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final String EMAIL_CONSTRAINT = "uk_user_email";
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtService jwtService;
-    private final AuthenticationManager authenticationManager;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final ConcurrencyLimiter concurrencyLimiter;
 
-    @Transactional
+    /**
+     * Not transactional on purpose: hashing may wait for the hashing pool and must not hold
+     * a database connection or a concurrency permit meanwhile, so both are taken only around
+     * the repository calls. The unique constraint on email covers the race and is reported
+     * like the check above.
+     */
     public AuthResponse register(RegisterRequest request) {
-        if (userRepository.existsByEmail(request.getEmail())) {
+        if (withPermit(() -> userRepository.existsByEmail(request.getEmail()))) {
             throw new IllegalArgumentException("Email already in use");
         }
 
         User user = User.builder()
                 .nome(request.getNome())
                 .email(request.getEmail())
-                .senha(passwordEncoder.encode(request.getSenha()))
+                .senha(passwordHashingService.encode(request.getSenha()))
                 .role(UserRole.USER)
                 .build();
 
-        User saved = userRepository.save(user);
-        UserDetails userDetails = toUserDetails(saved);
-        String token = jwtService.generateToken(userDetails);
+        User saved;
+        try {
+            saved = withPermit(() -> userRepository.save(user));
+        } catch (DataIntegrityViolationException e) {
+            if (violates(e, EMAIL_CONSTRAINT)) {
+                throw new IllegalArgumentException("Email already in use");
+            }
+            throw e;
+        }
+        String token = jwtService.generateToken(saved);
 
         return AuthResponse.builder()
                 .token(token)
@@ -47,16 +70,24 @@ public class UserService {
                 .build();
     }
 
+    /**
+     * Loads the user once and verifies the password on the hashing pool. Hashes made with a
+     * lower work factor than the configured one are replaced after a successful login.
+     */
     public AuthResponse authenticate(LoginRequest request) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getSenha())
-        );
+        User user = withPermit(() -> userRepository.findByEmail(request.getEmail()).orElse(null));
+        String senha = user != null ? user.getSenha() : null;
+        if (!passwordHashingService.matches(request.getSenha(), senha)) {
+            throw new BadCredentialsException("Bad credentials");
+        }
 
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new IllegalArgumentException("Invalid credentials"));
+        if (passwordHashingService.needsRehash(senha)) {
+            String rehashed = passwordHashingService.encode(request.getSenha());
+            withPermit(() -> userRepository.updateSenha(user.getId(), rehashed));
+            principalCache.evict(user.getEmail());
+        }
 
-        UserDetails userDetails = toUserDetails(user);
-        String token = jwtService.generateToken(userDetails);
+        String token = jwtService.generateToken(user);
 
         return AuthResponse.builder()
                 .token(token)
@@ -64,12 +95,30 @@ public class UserService {
                 .build();
     }
 
-    private UserDetails toUserDetails(User user) {
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getEmail())
-                .password(user.getSenha())
-                .authorities("ROLE_" + user.getRole().name())
-                .build();
+    public void logout(String token, UUID userId) {
+        tokenRevocationService.revoke(jwtService.parseToken(token), userId);
     }
-}
 
+    /**
+     * Revokes every token of the user issued up to now, including the one making the call.
+     */
+    public void revokeAllTokens(UUID userId) {
+        tokenRevocationService.revokeAll(userId);
+    }
+
+    private <T> T withPermit(Supplier<T> repositoryCall) {
+        try (ConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire()) {
+            return repositoryCall.get();
+        }
+    }
+
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && constraint.equalsIgnoreCase(violation.getConstraintName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
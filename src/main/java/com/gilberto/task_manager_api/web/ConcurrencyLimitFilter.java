@@ -0,0 +1,93 @@
+package com.gilberto.task_manager_api.web;
+
+import com.gilberto.task_manager_api.exception.ApiError;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Caps how many API requests run at once. With virtual threads Tomcat no longer bounds
+ * concurrency, so without this every request would start and then queue inside Hikari
+ * holding its memory and timing out there. Requests wait up to {@code max-wait} for a
+ * permit and are otherwise rejected with 503.
+ *
+ * <p>Export, import uploads, login and registration are left out: the export streams on an
+ * async thread after the handler returns, an upload lasts as long as the client takes to send
+ * it and login and registration mostly wait on the password hashing pool, so all of them take
+ * their permits in the services around their database work instead.
+ */
+@Component
+@ConditionalOnProperty(name = "web.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final PathPattern EXPORT = PathPatternParser.defaultInstance.parse("/api/tasks/export");
+    private static final PathPattern IMPORT_UPLOAD = PathPatternParser.defaultInstance.parse("/api/tasks/import/{id}");
+    private static final PathPattern LOGIN_OR_REGISTER =
+            PathPatternParser.defaultInstance.parse("/api/auth/{action:login|register}");
+
+    private final ConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimiter limiter, ObjectMapper objectMapper) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!request.getRequestURI().startsWith("/api/")) {
+            return true;
+        }
+        return switch (request.getMethod()) {
+            case "GET" -> EXPORT.matches(PathContainer.parsePath(request.getRequestURI()));
+            case "PUT" -> IMPORT_UPLOAD.matches(PathContainer.parsePath(request.getRequestURI()));
+            case "POST" -> LOGIN_OR_REGISTER.matches(PathContainer.parsePath(request.getRequestURI()));
+            default -> false;
+        };
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            reject(request, response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiError.builder()
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message("Server busy, try again later")
+                .errors(List.of())
+                .path(request.getRequestURI())
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+}
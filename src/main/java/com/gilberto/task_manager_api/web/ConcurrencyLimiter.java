@@ -0,0 +1,73 @@
+package com.gilberto.task_manager_api.web;
+
+import com.gilberto.task_manager_api.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Permits for work that holds a database connection, sized to the connection pool. Ordinary
+ * API requests take one for their whole duration in {@link ConcurrencyLimitFilter}; streaming
+ * endpoints take one only around the transactions they run, so a slow client neither holds a
+ * permit while idle nor uses a connection without one. When disabled every permit is granted.
+ */
+@Component
+public class ConcurrencyLimiter {
+
+    private final boolean enabled;
+    private final Semaphore permits;
+    private final Duration maxWait;
+
+    public ConcurrencyLimiter(@Value("${web.concurrency-limit.enabled:false}") boolean enabled,
+                              @Value("${web.concurrency-limit.permits:10}") int permits,
+                              @Value("${web.concurrency-limit.max-wait:1s}") Duration maxWait) {
+        this.enabled = enabled;
+        this.permits = new Semaphore(permits, true);
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Waits up to {@code max-wait} for a permit. A {@code true} result must be paired with
+     * {@link #release()}.
+     */
+    public boolean tryAcquire() {
+        if (!enabled) {
+            return true;
+        }
+        try {
+            return permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release() {
+        if (enabled) {
+            permits.release();
+        }
+    }
+
+    /**
+     * Takes a permit for a try-with-resources block, failing with 503 when none frees up in time.
+     */
+    public Permit acquire() {
+        if (!tryAcquire()) {
+            throw new ServiceUnavailableException("Server busy, try again later");
+        }
+        return this::release;
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    public interface Permit extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,24 @@
+create table users (
+    id         uuid         not null,
+    nome       varchar(255) not null,
+    email      varchar(255) not null,
+    senha      varchar(255) not null,
+    role       varchar(20)  not null check (role in ('USER', 'ADMIN')),
+    created_at timestamp(6) not null,
+    constraint users_pkey primary key (id),
+    constraint uk_user_email unique (email)
+);
+
+create table tasks (
+    id         uuid         not null,
+    titulo     varchar(255) not null,
+    descricao  text,
+    status     varchar(20)  not null check (status in ('TODO', 'IN_PROGRESS', 'DONE')),
+    prioridade varchar(20)  not null check (prioridade in ('LOW', 'MEDIUM', 'HIGH')),
+    categoria  varchar(255),
+    due_date   date,
+    created_at timestamp(6) not null,
+    user_id    uuid         not null,
+    constraint tasks_pkey primary key (id),
+    constraint fk_task_user foreign key (user_id) references users (id)
+);
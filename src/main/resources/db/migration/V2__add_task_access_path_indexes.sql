@@ -0,0 +1,14 @@
+-- One index per filter combination of GET /api/tasks, each ending in the
+-- (created_at, id) keyset so both offset and cursor pages are index ordered.
+-- idx_tasks_user_created also covers the fk_task_user lookups.
+create index idx_tasks_user_created
+    on tasks (user_id, created_at desc, id desc);
+
+create index idx_tasks_user_status_created
+    on tasks (user_id, status, created_at desc, id desc);
+
+create index idx_tasks_user_prioridade_created
+    on tasks (user_id, prioridade, created_at desc, id desc);
+
+create index idx_tasks_user_status_prioridade_created
+    on tasks (user_id, status, prioridade, created_at desc, id desc);
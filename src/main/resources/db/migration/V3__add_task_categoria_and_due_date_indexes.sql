@@ -0,0 +1,5 @@
+create index idx_tasks_user_categoria_created
+    on tasks (user_id, categoria, created_at desc, id desc);
+
+create index idx_tasks_user_due_date
+    on tasks (user_id, due_date);
@@ -0,0 +1,4 @@
+-- Must match the document expression in TaskSearchFunctionContributor.
+create index idx_tasks_search
+    on tasks using gin ((setweight(to_tsvector('simple', coalesce(titulo, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(descricao, '')), 'B')));
@@ -0,0 +1,6 @@
+alter table tasks add column version bigint not null default 0;
+alter table tasks add column updated_at timestamp(6);
+
+update tasks set updated_at = created_at where updated_at is null;
+
+alter table tasks alter column updated_at set not null;
@@ -0,0 +1,27 @@
+create table task_counters (
+    user_id    uuid        not null,
+    status     varchar(20) not null,
+    prioridade varchar(20) not null,
+    task_count bigint      not null,
+    constraint task_counters_pkey primary key (user_id, status, prioridade),
+    constraint fk_task_counters_user foreign key (user_id) references users (id) on delete cascade
+);
+
+create table task_due_counters (
+    user_id    uuid   not null,
+    due_date   date   not null,
+    open_count bigint not null,
+    constraint task_due_counters_pkey primary key (user_id, due_date),
+    constraint fk_task_due_counters_user foreign key (user_id) references users (id) on delete cascade
+);
+
+insert into task_counters (user_id, status, prioridade, task_count)
+select user_id, status, prioridade, count(*)
+from tasks
+group by user_id, status, prioridade;
+
+insert into task_due_counters (user_id, due_date, open_count)
+select user_id, due_date, count(*)
+from tasks
+where due_date is not null and status <> 'DONE'
+group by user_id, due_date;
@@ -0,0 +1,27 @@
+create table task_imports (
+    id              uuid         not null,
+    user_id         uuid         not null,
+    format          varchar(20)  not null check (format in ('NDJSON', 'CSV')),
+    status          varchar(20)  not null check (status in ('PENDING', 'RUNNING', 'INTERRUPTED', 'COMPLETED')),
+    processed_lines bigint       not null,
+    created         bigint       not null,
+    failed          bigint       not null,
+    created_at      timestamp(6) not null,
+    updated_at      timestamp(6) not null,
+    version         bigint       not null,
+    constraint task_imports_pkey primary key (id),
+    constraint fk_task_import_user foreign key (user_id) references users (id) on delete cascade
+);
+
+create index idx_task_imports_user on task_imports (user_id);
+
+create table task_import_errors (
+    id             uuid   not null,
+    task_import_id uuid   not null,
+    line           bigint not null,
+    message        text   not null,
+    constraint task_import_errors_pkey primary key (id),
+    constraint fk_task_import_error_import foreign key (task_import_id) references task_imports (id) on delete cascade
+);
+
+create index idx_task_import_errors_import_line on task_import_errors (task_import_id, line);
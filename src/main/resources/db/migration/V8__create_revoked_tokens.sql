@@ -0,0 +1,15 @@
+create table revoked_tokens (
+    jti        varchar(36)    not null,
+    user_id    uuid           not null,
+    expires_at timestamptz(6) not null,
+    revoked_at timestamptz(6) not null default now(),
+    constraint revoked_tokens_pkey primary key (jti),
+    constraint fk_revoked_token_user foreign key (user_id) references users (id) on delete cascade
+);
+
+create index idx_revoked_tokens_revoked_at on revoked_tokens (revoked_at);
+create index idx_revoked_tokens_expires_at on revoked_tokens (expires_at);
+
+alter table users add column tokens_valid_after timestamptz(6);
+
+create index idx_users_tokens_valid_after on users (tokens_valid_after) where tokens_valid_after is not null;
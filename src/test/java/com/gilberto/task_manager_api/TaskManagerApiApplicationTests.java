@@ -2,8 +2,12 @@ package com.gilberto.task_manager_api;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
 class TaskManagerApiApplicationTests {
 
 	@Test
@@ -0,0 +1,43 @@
+package com.gilberto.task_manager_api;
+
+import com.gilberto.task_manager_api.dto.task.TaskRequest;
+import com.gilberto.task_manager_api.model.User;
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import com.gilberto.task_manager_api.model.enums.UserRole;
+import com.gilberto.task_manager_api.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Data shared by the integration tests. Every user gets a random email, so tests can run
+ * against the same database without cleaning it up first.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static User saveUser(UserRepository userRepository, String nome) {
+        return userRepository.save(User.builder()
+                .nome(nome)
+                .email(UUID.randomUUID() + "@example.com")
+                .senha("hashed")
+                .role(UserRole.USER)
+                .build());
+    }
+
+    public static TaskRequest taskRequest(String titulo) {
+        return taskRequest(titulo, null, null);
+    }
+
+    public static TaskRequest taskRequest(String titulo, TaskPriority prioridade, LocalDate dueDate) {
+        return TaskRequest.builder()
+                .titulo(titulo)
+                .status(TaskStatus.TODO)
+                .prioridade(prioridade)
+                .dueDate(dueDate)
+                .build();
+    }
+}
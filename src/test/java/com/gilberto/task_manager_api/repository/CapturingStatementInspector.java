@@ -0,0 +1,35 @@
+package com.gilberto.task_manager_api.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static String lastUpdate() {
+        return STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase().startsWith("update"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+    }
+
+    public static String firstSelect() {
+        return STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+                .findFirst()
+                .orElseThrow();
+    }
+}
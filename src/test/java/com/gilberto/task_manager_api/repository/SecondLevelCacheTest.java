@@ -0,0 +1,123 @@
+package com.gilberto.task_manager_api.repository;
+
+import com.gilberto.task_manager_api.TestcontainersConfiguration;
+import com.gilberto.task_manager_api.dto.task.TaskBulkUpdateRequest;
+import com.gilberto.task_manager_api.dto.task.TaskResponse;
+import com.gilberto.task_manager_api.model.Task;
+import com.gilberto.task_manager_api.model.User;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import com.gilberto.task_manager_api.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.gilberto.task_manager_api.TestFixtures.saveUser;
+import static com.gilberto.task_manager_api.TestFixtures.taskRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = saveUser(userRepository, "Cached");
+    }
+
+    @Test
+    void findByEmail_isServedFromCache() {
+        userRepository.findByEmail(user.getEmail()).orElseThrow();
+        statistics.clear();
+
+        User found = userRepository.findByEmail(user.getEmail()).orElseThrow();
+
+        assertThat(found.getId()).isEqualTo(user.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void passwordUpdate_invalidatesUser() {
+        userRepository.findByEmail(user.getEmail()).orElseThrow();
+
+        userRepository.updateSenha(user.getId(), "rehashed");
+
+        assertThat(userRepository.findByEmail(user.getEmail()).orElseThrow().getSenha()).isEqualTo("rehashed");
+    }
+
+    @Test
+    void findByIdAndUserId_isServedFromCache() {
+        TaskResponse created = taskService.createTask(user.getId(), taskRequest("Cached"));
+        statistics.clear();
+
+        Task task = taskRepository.findByIdAndUserId(created.getId(), user.getId()).orElseThrow();
+
+        assertThat(task.getTitulo()).isEqualTo("Cached");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(taskRepository.findByIdAndUserId(created.getId(), UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void update_refreshesCachedTask() {
+        TaskResponse created = taskService.createTask(user.getId(), taskRequest("Before"));
+
+        taskService.updateTask(user.getId(), created.getId(), taskRequest("After"));
+        statistics.clear();
+
+        assertThat(taskRepository.findByIdAndUserId(created.getId(), user.getId()).orElseThrow().getTitulo())
+                .isEqualTo("After");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void bulkUpdate_invalidatesCachedTasks() {
+        TaskResponse created = taskService.createTask(user.getId(), taskRequest("Bulk"));
+        taskRepository.findByIdAndUserId(created.getId(), user.getId()).orElseThrow();
+
+        taskService.updateTasks(user.getId(), TaskBulkUpdateRequest.builder()
+                .ids(List.of(created.getId()))
+                .status(TaskStatus.DONE)
+                .build());
+
+        assertThat(taskRepository.findByIdAndUserId(created.getId(), user.getId()).orElseThrow().getStatus())
+                .isEqualTo(TaskStatus.DONE);
+    }
+
+    @Test
+    void delete_evictsCachedTask() {
+        TaskResponse created = taskService.createTask(user.getId(), taskRequest("Deleted"));
+        taskRepository.findByIdAndUserId(created.getId(), user.getId()).orElseThrow();
+
+        taskService.deleteTask(user.getId(), created.getId());
+
+        assertThat(entityManagerFactory.getCache().contains(Task.class, created.getId())).isFalse();
+        assertThat(taskRepository.findByIdAndUserId(created.getId(), user.getId())).isEmpty();
+    }
+}
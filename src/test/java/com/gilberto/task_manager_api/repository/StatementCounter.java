@@ -0,0 +1,66 @@
+package com.gilberto.task_manager_api.repository;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Set;
+
+/**
+ * Counts the statements the current thread prepares on the application {@link DataSource},
+ * including the ones issued through {@code JdbcClient} that Hibernate statistics do not see.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class StatementCounter {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("prepareStatement", "prepareCall", "createStatement");
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    public static void clear() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int count() {
+        return COUNT.get()[0];
+    }
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? counting(dataSource) : bean;
+            }
+        };
+    }
+
+    private static DataSource counting(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, result) ->
+                result instanceof Connection connection ? proxy(Connection.class, connection, (statementMethod, statement) -> {
+                    if (STATEMENT_FACTORIES.contains(statementMethod.getName())) {
+                        COUNT.get()[0]++;
+                    }
+                    return statement;
+                }) : result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultDecorator decorator) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            try {
+                return decorator.decorate(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private interface ResultDecorator {
+        Object decorate(Method method, Object result);
+    }
+}
@@ -0,0 +1,113 @@
+package com.gilberto.task_manager_api.repository;
+
+import com.gilberto.task_manager_api.TestcontainersConfiguration;
+import com.gilberto.task_manager_api.dto.task.TaskFilter;
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the SQL generated for each filter combination through {@code EXPLAIN (GENERIC_PLAN)}
+ * with sequential scans disabled, and checks that PostgreSQL answers it from the
+ * {@code idx_tasks_user_*} index meant for that combination. Combinations without an index
+ * of their own expect the first one that covers their equality filters.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.gilberto.task_manager_api.repository.CapturingStatementInspector")
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+class TaskQueryIndexTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    static Stream<Arguments> filters() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        return Stream.of(
+                Arguments.of("none", "idx_tasks_user_created", TaskFilter.builder().build()),
+                Arguments.of("status", "idx_tasks_user_status_created", TaskFilter.builder().status(TaskStatus.TODO).build()),
+                Arguments.of("prioridade", "idx_tasks_user_prioridade_created", TaskFilter.builder().prioridade(TaskPriority.HIGH).build()),
+                Arguments.of("status + prioridade", "idx_tasks_user_status_prioridade_created", TaskFilter.builder()
+                        .status(TaskStatus.IN_PROGRESS).prioridade(TaskPriority.LOW).build()),
+                Arguments.of("categoria", "idx_tasks_user_categoria_created", TaskFilter.builder().categoria("Work").build()),
+                Arguments.of("status + categoria", "idx_tasks_user_status_created", TaskFilter.builder()
+                        .status(TaskStatus.DONE).categoria("Home").build()),
+                Arguments.of("dueDate range", "idx_tasks_user_due_date", TaskFilter.builder()
+                        .dueDateFrom(today).dueDateTo(today.plusDays(7)).build()),
+                Arguments.of("createdAt range", "idx_tasks_user_created", TaskFilter.builder()
+                        .createdAfter(now.minusDays(30)).createdBefore(now).build()),
+                Arguments.of("everything", "idx_tasks_user_status_prioridade_created", TaskFilter.builder()
+                        .status(TaskStatus.TODO).prioridade(TaskPriority.MEDIUM).categoria("Work")
+                        .dueDateFrom(today).dueDateTo(today.plusDays(7))
+                        .createdAfter(now.minusDays(30)).createdBefore(now).build())
+        );
+    }
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @MethodSource("filters")
+    void findPage_usesCompositeUserIndex(String combination, String index, TaskFilter filter) {
+        CapturingStatementInspector.clear();
+        taskRepository.findPage(TaskQuery.forUser(UUID.randomUUID()).filter(filter), PageRequest.of(0, 20));
+
+        List<String> plan = explain(CapturingStatementInspector.firstSelect());
+
+        assertThat(plan).noneMatch(line -> line.contains("Seq Scan"));
+        assertThat(plan).anyMatch(line -> line.matches(".*(using|Bitmap Index Scan on) " + index + " .*"));
+    }
+
+    @Test
+    void findPage_withSearch_usesFullTextIndex() {
+        CapturingStatementInspector.clear();
+        TaskFilter filter = TaskFilter.builder().q("relatório mensal").build();
+        taskRepository.findPage(TaskQuery.forUser(UUID.randomUUID()).filter(filter), PageRequest.of(0, 20));
+
+        List<String> plan = explain(CapturingStatementInspector.firstSelect());
+
+        assertThat(plan).anyMatch(line -> line.contains("idx_tasks_search"));
+    }
+
+    private List<String> explain(String sql) {
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("set local enable_seqscan = off");
+            return jdbcTemplate.queryForList("explain (generic_plan) " + toPositionalParameters(sql), String.class);
+        });
+    }
+
+    private static String toPositionalParameters(String sql) {
+        StringBuilder positional = new StringBuilder();
+        int index = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                positional.append('$').append(++index);
+            } else {
+                positional.append(c);
+            }
+        }
+        return positional.toString();
+    }
+}
@@ -0,0 +1,88 @@
+package com.gilberto.task_manager_api.repository;
+
+import com.gilberto.task_manager_api.dto.task.TaskFilter;
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskQueryTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void forUser_withoutFilter_onlyScopesToUser() {
+        TaskQuery query = TaskQuery.forUser(userId).filter(TaskFilter.builder().build());
+
+        assertThat(query.whereClause()).isEqualTo("t.user.id = :userId");
+        assertThat(query.parameters()).containsOnlyKeys("userId");
+    }
+
+    @Test
+    void filter_addsOnlyTheConditionsThatAreSet() {
+        TaskFilter filter = TaskFilter.builder()
+                .status(TaskStatus.DONE)
+                .categoria("Work")
+                .build();
+
+        TaskQuery query = TaskQuery.forUser(userId).filter(filter);
+
+        assertThat(query.whereClause())
+                .isEqualTo("t.user.id = :userId and t.status = :status and t.categoria = :categoria");
+        assertThat(query.parameters())
+                .containsEntry("status", TaskStatus.DONE)
+                .containsEntry("categoria", "Work");
+    }
+
+    @Test
+    void filter_withEveryCondition_bindsEveryParameter() {
+        LocalDateTime now = LocalDateTime.now();
+        TaskFilter filter = TaskFilter.builder()
+                .status(TaskStatus.TODO)
+                .prioridade(TaskPriority.HIGH)
+                .categoria("Home")
+                .dueDateFrom(LocalDate.now())
+                .dueDateTo(LocalDate.now().plusDays(7))
+                .createdAfter(now.minusDays(1))
+                .createdBefore(now)
+                .build();
+
+        TaskQuery query = TaskQuery.forUser(userId).filter(filter);
+
+        assertThat(query.parameters()).containsOnlyKeys(
+                "userId", "status", "prioridade", "categoria",
+                "dueDateFrom", "dueDateTo", "createdAfter", "createdBefore");
+    }
+
+    @Test
+    void categoria_ignoresBlankValues() {
+        TaskQuery query = TaskQuery.forUser(userId).categoria("  ");
+
+        assertThat(query.parameters()).containsOnlyKeys("userId");
+    }
+
+    @Test
+    void search_matchesTituloAndDescricao() {
+        TaskQuery query = TaskQuery.forUser(userId).search("  weekly report ");
+
+        assertThat(query.isSearch()).isTrue();
+        assertThat(query.whereClause()).contains("task_search_matches(t.titulo, t.descricao, :q)");
+        assertThat(query.parameters()).containsEntry("q", "weekly report");
+    }
+
+    @Test
+    void ids_restrictsToTheGivenTasks() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        TaskQuery query = TaskQuery.forUser(userId).ids(ids);
+
+        assertThat(query.whereClause()).isEqualTo("t.user.id = :userId and t.id in :ids");
+        assertThat(query.parameters()).containsEntry("ids", ids);
+    }
+}
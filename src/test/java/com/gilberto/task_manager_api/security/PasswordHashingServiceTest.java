@@ -0,0 +1,102 @@
+package com.gilberto.task_manager_api.security;
+
+import com.gilberto.task_manager_api.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsWhenPoolAndQueueAreFull() throws Exception {
+        service = new PasswordHashingService(blockingEncoder(), meterRegistry, 1, 1, Duration.ofSeconds(10));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("second"));
+        awaitQueueDepth(1);
+
+        assertThatThrownBy(() -> service.encode("third")).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get("security.password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed");
+    }
+
+    @Test
+    void givesUpAfterMaxWait() throws Exception {
+        service = new PasswordHashingService(blockingEncoder(), meterRegistry, 1, 1, Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> service.encode("slow")).isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    void unknownUserNeverMatches() {
+        service = new PasswordHashingService(new BCryptPasswordEncoder(4), meterRegistry, 1, 1, Duration.ofSeconds(5));
+
+        assertThat(service.matches("unknown-user", null)).isFalse();
+        assertThat(service.matches("secret", service.encode("secret"))).isTrue();
+    }
+
+    @Test
+    void hashesWithLowerStrengthNeedRehash() {
+        service = new PasswordHashingService(new BCryptPasswordEncoder(5), meterRegistry, 1, 1, Duration.ofSeconds(5));
+
+        assertThat(service.needsRehash(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(service.needsRehash(service.encode("secret"))).isFalse();
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                if (!"unknown-user".contentEquals(rawPassword)) {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return "hashed";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("security.password.hashing.queue").gauge().value() < depth
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
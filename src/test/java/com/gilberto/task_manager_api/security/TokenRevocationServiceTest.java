@@ -0,0 +1,94 @@
+package com.gilberto.task_manager_api.security;
+
+import com.gilberto.task_manager_api.model.User;
+import com.gilberto.task_manager_api.model.enums.UserRole;
+import com.gilberto.task_manager_api.repository.RevokedTokenRepository;
+import com.gilberto.task_manager_api.repository.RevokedTokenRepository.Revocation;
+import com.gilberto.task_manager_api.repository.RevokedTokenRepository.Watermark;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationService service;
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        service = new TokenRevocationService(revokedTokenRepository, 3_600_000L);
+        jwtService = new JwtService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtService, "secret", "UvTKgS5WoRVexnT3wQWDJyeZ1BI3/pRJBwFlysTu3qU=");
+        ReflectionTestUtils.setField(jwtService, "expirationMillis", 3_600_000L);
+        ReflectionTestUtils.setField(jwtService, "cacheMaxSize", 100L);
+        jwtService.init();
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .email("user@example.com")
+                .role(UserRole.USER)
+                .build();
+    }
+
+    @Test
+    void revokesSingleToken() {
+        JwtClaims revoked = jwtService.parseToken(jwtService.generateToken(user));
+        JwtClaims other = jwtService.parseToken(jwtService.generateToken(user));
+        when(revokedTokenRepository.revoke(eq(revoked.getTokenId()), eq(user.getId()), any()))
+                .thenReturn(new Revocation(revoked.getTokenId(), revoked.getExpiration().toInstant(), Instant.now()));
+
+        service.revoke(revoked, user.getId());
+
+        assertThat(service.isRevoked(revoked)).isTrue();
+        assertThat(service.isRevoked(other)).isFalse();
+    }
+
+    @Test
+    void revokeAllRejectsTokensIssuedBeforeTheWatermark() {
+        JwtClaims claims = jwtService.parseToken(jwtService.generateToken(user));
+        Instant issuedAt = Instant.ofEpochMilli(claims.getIssuedAtMillis());
+        when(revokedTokenRepository.revokeAll(user.getId())).thenReturn(
+                Optional.of(new Watermark(user.getEmail(), issuedAt.minusMillis(1))),
+                Optional.of(new Watermark(user.getEmail(), issuedAt)),
+                Optional.of(new Watermark(user.getEmail(), issuedAt.plusMillis(1))));
+
+        service.revokeAll(user.getId());
+        assertThat(service.isRevoked(claims)).isFalse();
+
+        service.revokeAll(user.getId());
+        assertThat(service.isRevoked(claims)).isFalse();
+
+        service.revokeAll(user.getId());
+        assertThat(service.isRevoked(claims)).isTrue();
+    }
+
+    @Test
+    void loadsRevocationsMadeElsewhere() {
+        JwtClaims claims = jwtService.parseToken(jwtService.generateToken(user));
+        when(revokedTokenRepository.findRevokedSince(any()))
+                .thenReturn(List.of(new Revocation(claims.getTokenId(), claims.getExpiration().toInstant(), Instant.now())));
+        when(revokedTokenRepository.findWatermarksSince(any())).thenReturn(List.of());
+
+        service.refresh();
+
+        assertThat(service.isRevoked(claims)).isTrue();
+    }
+}
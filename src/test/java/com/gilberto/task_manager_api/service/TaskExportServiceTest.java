@@ -0,0 +1,130 @@
+package com.gilberto.task_manager_api.service;
+
+import com.gilberto.task_manager_api.TestcontainersConfiguration;
+import com.gilberto.task_manager_api.dto.task.TaskFilter;
+import com.gilberto.task_manager_api.model.enums.TaskFileFormat;
+import com.gilberto.task_manager_api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static com.gilberto.task_manager_api.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+class TaskExportServiceTest {
+
+    private static final int ROWS = 50_000;
+    private static final int DESCRICAO_LENGTH = 2_000;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setup() {
+        userId = saveUser(userRepository, "Export").getId();
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcClient.sql("delete from tasks where user_id = :userId").param("userId", userId).update();
+    }
+
+    @Test
+    void export_keepsHeapFlatRegardlessOfRowCount() throws Exception {
+        jdbcClient.sql("""
+                        insert into tasks (id, titulo, descricao, status, prioridade, created_at, updated_at, version, user_id)
+                        select gen_random_uuid(), 'Task ' || n, repeat('x', :length), 'TODO', 'MEDIUM',
+                               now() - n * interval '1 second', now(), 0, :userId
+                        from generate_series(1, :rows) n
+                        """)
+                .param("length", DESCRICAO_LENGTH)
+                .param("rows", ROWS)
+                .param("userId", userId)
+                .update();
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long baseline = usedHeapAfterGc(memory);
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream(memory);
+
+        long exported = taskExportService.export(userId, TaskFilter.builder().build(), TaskFileFormat.NDJSON, out);
+
+        long exportedBytes = (long) ROWS * DESCRICAO_LENGTH;
+        assertThat(exported).isEqualTo(ROWS);
+        assertThat(out.lines).isEqualTo(ROWS);
+        assertThat(out.peakUsedHeap - baseline).isLessThan(exportedBytes / 4);
+    }
+
+    @Test
+    void export_writesEscapedCsv() throws Exception {
+        jdbcClient.sql("""
+                        insert into tasks (id, titulo, descricao, status, prioridade, created_at, updated_at, version, user_id)
+                        values (gen_random_uuid(), 'Comma, "quoted"', null, 'DONE', 'HIGH', now(), now(), 0, :userId)
+                        """)
+                .param("userId", userId)
+                .update();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taskExportService.export(userId, TaskFilter.builder().build(), TaskFileFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("id,titulo,descricao");
+        assertThat(lines[1]).contains(",\"Comma, \"\"quoted\"\"\",,DONE,HIGH,");
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Discards the export while sampling retained heap every few thousand lines.
+     */
+    private static class HeapSamplingOutputStream extends OutputStream {
+
+        private final MemoryMXBean memory;
+        private long lines;
+        private long peakUsedHeap;
+
+        HeapSamplingOutputStream(MemoryMXBean memory) {
+            this.memory = memory;
+        }
+
+        @Override
+        public void write(int b) {
+            if (b == '\n' && ++lines % 5_000 == 0) {
+                peakUsedHeap = Math.max(peakUsedHeap, usedHeapAfterGc(memory));
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.gilberto.task_manager_api.service;
+
+import com.gilberto.task_manager_api.TestcontainersConfiguration;
+import com.gilberto.task_manager_api.dto.task.TaskFilter;
+import com.gilberto.task_manager_api.dto.task.TaskImportErrorResponse;
+import com.gilberto.task_manager_api.dto.task.TaskImportResponse;
+import com.gilberto.task_manager_api.model.enums.TaskFileFormat;
+import com.gilberto.task_manager_api.model.enums.TaskImportStatus;
+import com.gilberto.task_manager_api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static com.gilberto.task_manager_api.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+class TaskImportServiceTest {
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setup() {
+        userId = saveUser(userRepository, "Import").getId();
+    }
+
+    @Test
+    void upload_createsValidRecordsAndReportsInvalidLines() throws IOException {
+        String ndjson = """
+                {"titulo":"First","status":"TODO","prioridade":"HIGH"}
+                {"titulo":""}
+                not json
+
+                {"titulo":"Second","dueDate":"2030-01-01"}
+                """;
+
+        TaskImportResponse response = importFile(TaskFileFormat.NDJSON, ndjson);
+
+        assertThat(response.getStatus()).isEqualTo(TaskImportStatus.COMPLETED);
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(2);
+        List<TaskImportErrorResponse> errors = taskImportService
+                .getImportErrors(userId, response.getId(), PageRequest.of(0, 10))
+                .getContent();
+        assertThat(errors).extracting(TaskImportErrorResponse::getLine).containsExactly(2L, 3L);
+        assertThat(errors.get(0).getMessage()).contains("titulo");
+    }
+
+    @Test
+    void upload_readsCsvWithQuotedMultilineFields() throws IOException {
+        String csv = """
+                titulo,descricao,status,prioridade,categoria,dueDate
+                Plain,,TODO,LOW,Home,
+                "Comma, ""quoted""\","line one
+                line two",DONE,HIGH,,2030-05-01
+                Bad,,UNKNOWN,LOW,,
+                """;
+
+        TaskImportResponse response = importFile(TaskFileFormat.CSV, csv);
+
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(taskImportService.getImportErrors(userId, response.getId(), PageRequest.of(0, 10)).getContent())
+                .extracting(TaskImportErrorResponse::getLine)
+                .containsExactly(5L);
+    }
+
+    @Test
+    void upload_treatsStrayCsvQuotesAsTextAndCapsUnterminatedRecords() throws IOException {
+        StringBuilder csv = new StringBuilder("""
+                titulo,descricao,status,prioridade,categoria,dueDate
+                Monitor 27" 4K,Says "hi",TODO,LOW,Tech,
+                After stray,,DONE,HIGH,,
+                "Never closed,,TODO,LOW,,
+                """);
+        int rows = TaskImportReader.MAX_RECORD_LINES + 5;
+        for (int i = 0; i < rows; i++) {
+            csv.append("Row ").append(i).append(",,TODO,LOW,,\n");
+        }
+
+        TaskImportResponse response = importFile(TaskFileFormat.CSV, csv.toString());
+
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getCreated()).isEqualTo(2 + rows - (TaskImportReader.MAX_RECORD_LINES - 1));
+        assertThat(taskImportService.getImportErrors(userId, response.getId(), PageRequest.of(0, 10)).getContent())
+                .extracting(TaskImportErrorResponse::getLine)
+                .containsExactly(4L);
+        assertThat(taskService.listTasks(userId, TaskFilter.builder().categoria("Tech").build(), PageRequest.of(0, 1))
+                .getContent())
+                .extracting(task -> task.getTitulo() + "|" + task.getDescricao())
+                .containsExactly("Monitor 27\" 4K|Says \"hi\"");
+    }
+
+    @Test
+    void upload_resumesAfterLastCommittedChunk() throws IOException {
+        int records = TaskImportService.CHUNK_SIZE * 2 + 10;
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < records; i++) {
+            ndjson.append("{\"titulo\":\"Imported ").append(i).append("\"}\n");
+        }
+        byte[] upload = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+        UUID importId = taskImportService.createImport(userId, TaskFileFormat.NDJSON).getId();
+
+        assertThatThrownBy(() -> taskImportService.upload(userId, importId,
+                new DroppingInputStream(upload, upload.length * 3 / 4)))
+                .isInstanceOf(IOException.class);
+
+        TaskImportResponse interrupted = taskImportService.getImport(userId, importId);
+        assertThat(interrupted.getStatus()).isEqualTo(TaskImportStatus.INTERRUPTED);
+        assertThat(interrupted.getProcessedLines()).isEqualTo(TaskImportService.CHUNK_SIZE);
+        assertThat(interrupted.getCreated()).isEqualTo(TaskImportService.CHUNK_SIZE);
+
+        TaskImportResponse resumed = taskImportService.upload(userId, importId, new ByteArrayInputStream(upload));
+
+        assertThat(resumed.getStatus()).isEqualTo(TaskImportStatus.COMPLETED);
+        assertThat(resumed.getProcessedLines()).isEqualTo(records);
+        assertThat(resumed.getCreated()).isEqualTo(records);
+        assertThat(taskService.listTasks(userId, TaskFilter.builder().build(), PageRequest.of(0, 1))
+                .getTotalElements()).isEqualTo(records);
+    }
+
+    private TaskImportResponse importFile(TaskFileFormat format, String content) throws IOException {
+        UUID importId = taskImportService.createImport(userId, format).getId();
+        return taskImportService.upload(userId, importId, stream(content));
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Simulates a client whose connection drops after {@code limit} bytes.
+     */
+    private static class DroppingInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        DroppingInputStream(byte[] content, long limit) {
+            super(new ByteArrayInputStream(content));
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining-- <= 0) {
+                throw new IOException("Connection reset");
+            }
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                throw new IOException("Connection reset");
+            }
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            remaining -= Math.max(read, 0);
+            return read;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.gilberto.task_manager_api.service;
+
+import com.gilberto.task_manager_api.TestcontainersConfiguration;
+import com.gilberto.task_manager_api.dto.task.TaskFilter;
+import com.gilberto.task_manager_api.dto.task.TaskResponse;
+import com.gilberto.task_manager_api.model.User;
+import com.gilberto.task_manager_api.repository.CapturingStatementInspector;
+import com.gilberto.task_manager_api.repository.StatementCounter;
+import com.gilberto.task_manager_api.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static com.gilberto.task_manager_api.TestFixtures.saveUser;
+import static com.gilberto.task_manager_api.TestFixtures.taskRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.gilberto.task_manager_api.repository.CapturingStatementInspector")
+@Import({TestcontainersConfiguration.class, StatementCounter.class})
+@ActiveProfiles("test")
+class TaskServiceQueryCountTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID userId;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userId = saveUser(userRepository, "Query Count").getId();
+    }
+
+    @Test
+    void listTasks_runsSingleStatement() {
+        taskService.createTask(userId, taskRequest("Listed"));
+        statistics.clear();
+        StatementCounter.clear();
+
+        taskService.listTasks(userId, TaskFilter.builder().build(), PageRequest.of(0, 10));
+
+        assertThat(StatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    void createTask_runsInsertAndCounterUpsert() {
+        statistics.clear();
+        StatementCounter.clear();
+
+        taskService.createTask(userId, taskRequest("Created"));
+
+        assertThat(StatementCounter.count()).isEqualTo(2);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    void updateTask_doesNotLookUpUser() {
+        TaskResponse created = taskService.createTask(userId, taskRequest("Original"));
+        statistics.clear();
+        StatementCounter.clear();
+
+        taskService.updateTask(userId, created.getId(), taskRequest("Updated"));
+
+        assertThat(StatementCounter.count()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+    }
+
+    @Test
+    void patchTask_writesOnlyChangedColumns() {
+        TaskResponse created = taskService.createTask(userId, taskRequest("Patched"));
+        statistics.clear();
+        StatementCounter.clear();
+        CapturingStatementInspector.clear();
+
+        taskService.patchTask(userId, created.getId(), Map.of("status", "DONE"), null);
+
+        // the update plus one counter upsert each for TODO and DONE
+        assertThat(StatementCounter.count()).isEqualTo(3);
+        assertThat(CapturingStatementInspector.lastUpdate())
+                .contains("status")
+                .doesNotContain("descricao")
+                .doesNotContain("titulo");
+    }
+
+    @Test
+    void deleteTask_runsDeleteAndCounterUpsert() {
+        TaskResponse created = taskService.createTask(userId, taskRequest("Deleted"));
+        statistics.clear();
+        StatementCounter.clear();
+
+        taskService.deleteTask(userId, created.getId());
+
+        assertThat(StatementCounter.count()).isEqualTo(2);
+    }
+}
@@ -1,34 +1,62 @@
 package com.gilberto.task_manager_api.service;
 
+import com.gilberto.task_manager_api.dto.task.CursorPage;
+import com.gilberto.task_manager_api.dto.task.TaskBatchResponse;
+import com.gilberto.task_manager_api.dto.task.TaskBulkDeleteRequest;
+import com.gilberto.task_manager_api.dto.task.TaskBulkUpdateRequest;
+import com.gilberto.task_manager_api.dto.task.TaskCountMode;
+import com.gilberto.task_manager_api.dto.task.TaskCursor;
 import com.gilberto.task_manager_api.dto.task.TaskFilter;
+import com.gilberto.task_manager_api.dto.task.TaskPageVersions;
 import com.gilberto.task_manager_api.dto.task.TaskRequest;
 import com.gilberto.task_manager_api.dto.task.TaskResponse;
+import com.gilberto.task_manager_api.dto.task.TaskRowVersion;
+import com.gilberto.task_manager_api.exception.PreconditionFailedException;
 import com.gilberto.task_manager_api.model.Task;
 import com.gilberto.task_manager_api.model.User;
 import com.gilberto.task_manager_api.model.enums.TaskPriority;
 import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import com.gilberto.task_manager_api.repository.TaskGroupCount;
+import com.gilberto.task_manager_api.repository.TaskQuery;
 import com.gilberto.task_manager_api.repository.TaskRepository;
 import com.gilberto.task_manager_api.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +68,18 @@ class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskCountCache taskCountCache;
+
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    @Mock
+    private Validator validator;
+
+    @Spy
+    private TaskListCache taskListCache = new TaskListCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+
     @InjectMocks
     private TaskService taskService;
 
@@ -59,71 +99,179 @@ class TaskServiceTest {
     @Test
     void listTasks_withoutFilters_returnsUserTasks() {
         PageRequest pageable = PageRequest.of(0, 10);
-        Task task = sampleTask();
-        Page<Task> page = new PageImpl<>(List.of(task), pageable, 1);
+        TaskResponse task = sampleResponse();
+        Page<TaskResponse> page = new PageImpl<>(List.of(task), pageable, 1);
 
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(taskRepository.findAllByUserId(userId, pageable)).thenReturn(page);
+        when(taskRepository.findPage(any(TaskQuery.class), eq(pageable))).thenReturn(page);
 
-        Page<TaskResponse> result = taskService.listTasks(user.getEmail(), TaskFilter.builder().build(), pageable);
+        Page<TaskResponse> result = taskService.listTasks(userId, TaskFilter.builder().build(), pageable);
 
         assertThat(result.getContent()).hasSize(1);
         TaskResponse response = result.getContent().get(0);
         assertThat(response.getId()).isEqualTo(task.getId());
         assertThat(response.getUserId()).isEqualTo(userId);
-        verify(taskRepository).findAllByUserId(userId, pageable);
+        verify(taskRepository).findPage(any(TaskQuery.class), eq(pageable));
     }
 
     @Test
-    void listTasks_withStatusFilter_filtersByStatus() {
+    void listTasks_withFilters_runsSingleFilteredQuery() {
         PageRequest pageable = PageRequest.of(0, 10);
-        Task task = sampleTask();
-        Page<Task> page = new PageImpl<>(List.of(task), pageable, 1);
+        Page<TaskResponse> page = new PageImpl<>(List.of(sampleResponse()), pageable, 1);
 
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(taskRepository.findAllByUserIdAndStatus(userId, TaskStatus.TODO, pageable)).thenReturn(page);
+        when(taskRepository.findPage(any(TaskQuery.class), eq(pageable))).thenReturn(page);
 
-        TaskFilter filter = TaskFilter.builder().status(TaskStatus.TODO).build();
-        Page<TaskResponse> result = taskService.listTasks(user.getEmail(), filter, pageable);
+        TaskFilter filter = TaskFilter.builder()
+                .status(TaskStatus.IN_PROGRESS)
+                .prioridade(TaskPriority.MEDIUM)
+                .categoria("Work")
+                .dueDateFrom(LocalDate.now())
+                .build();
+        Page<TaskResponse> result = taskService.listTasks(userId, filter, pageable);
 
         assertThat(result).hasSize(1);
-        verify(taskRepository).findAllByUserIdAndStatus(userId, TaskStatus.TODO, pageable);
+        verify(taskRepository).findPage(any(TaskQuery.class), eq(pageable));
     }
 
     @Test
-    void listTasks_withPriorityFilter_filtersByPriority() {
+    void listTasks_withoutCount_returnsSliceWithoutCounting() {
         PageRequest pageable = PageRequest.of(0, 10);
-        Task task = sampleTask();
-        Page<Task> page = new PageImpl<>(List.of(task), pageable, 1);
+        Slice<TaskResponse> slice = new SliceImpl<>(List.of(sampleResponse()), pageable, true);
 
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(taskRepository.findAllByUserIdAndPrioridade(userId, TaskPriority.HIGH, pageable)).thenReturn(page);
+        when(taskRepository.findSlice(any(TaskQuery.class), eq(pageable))).thenReturn(slice);
 
-        TaskFilter filter = TaskFilter.builder().prioridade(TaskPriority.HIGH).build();
-        Page<TaskResponse> result = taskService.listTasks(user.getEmail(), filter, pageable);
+        Slice<TaskResponse> result = taskService.listTasks(userId, null, pageable, TaskCountMode.NONE);
 
-        assertThat(result).hasSize(1);
-        verify(taskRepository).findAllByUserIdAndPrioridade(userId, TaskPriority.HIGH, pageable);
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.hasNext()).isTrue();
+        verifyNoInteractions(taskCountCache);
+    }
+
+    @Test
+    void listTasks_withApproximateCount_usesCachedTotal() {
+        PageRequest pageable = PageRequest.of(0, 1);
+        TaskFilter filter = TaskFilter.builder().status(TaskStatus.TODO).build();
+        Slice<TaskResponse> slice = new SliceImpl<>(List.of(sampleResponse()), pageable, true);
+
+        when(taskRepository.findSlice(any(TaskQuery.class), eq(pageable))).thenReturn(slice);
+        when(taskCountCache.approximateTotal(userId, filter)).thenReturn(42L);
+
+        Slice<TaskResponse> result = taskService.listTasks(userId, filter, pageable, TaskCountMode.APPROXIMATE);
+
+        assertThat(result).isInstanceOf(Page.class);
+        assertThat(((Page<TaskResponse>) result).getTotalElements()).isEqualTo(42L);
     }
 
     @Test
-    void listTasks_withBothFilters_filtersByBoth() {
+    void listTasks_repeatedRequest_isServedFromCache() {
         PageRequest pageable = PageRequest.of(0, 10);
-        Task task = sampleTask();
-        Page<Task> page = new PageImpl<>(List.of(task), pageable, 1);
+        Slice<TaskResponse> slice = new SliceImpl<>(List.of(sampleResponse()), pageable, false);
 
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(taskRepository.findAllByUserIdAndStatusAndPrioridade(userId, TaskStatus.IN_PROGRESS, TaskPriority.MEDIUM, pageable))
-                .thenReturn(page);
+        when(taskRepository.findSlice(any(TaskQuery.class), eq(pageable))).thenReturn(slice);
 
-        TaskFilter filter = TaskFilter.builder()
-                .status(TaskStatus.IN_PROGRESS)
-                .prioridade(TaskPriority.MEDIUM)
-                .build();
-        Page<TaskResponse> result = taskService.listTasks(user.getEmail(), filter, pageable);
+        taskService.listTasks(userId, null, pageable, TaskCountMode.NONE);
+        Slice<TaskResponse> result = taskService.listTasks(userId, null, pageable, TaskCountMode.NONE);
 
-        assertThat(result).hasSize(1);
-        verify(taskRepository).findAllByUserIdAndStatusAndPrioridade(userId, TaskStatus.IN_PROGRESS, TaskPriority.MEDIUM, pageable);
+        assertThat(result).isSameAs(slice);
+        verify(taskRepository, times(1)).findSlice(any(TaskQuery.class), eq(pageable));
+    }
+
+    @Test
+    void listTasks_mutatingFilterAfterwards_doesNotChangeCachedEntry() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        Slice<TaskResponse> slice = new SliceImpl<>(List.of(sampleResponse()), pageable, false);
+        TaskFilter filter = TaskFilter.builder().status(TaskStatus.TODO).build();
+
+        when(taskRepository.findSlice(any(TaskQuery.class), eq(pageable))).thenReturn(slice);
+
+        taskService.listTasks(userId, filter, pageable, TaskCountMode.NONE);
+        filter.setStatus(TaskStatus.DONE);
+        taskService.listTasks(userId, TaskFilter.builder().status(TaskStatus.TODO).build(), pageable,
+                TaskCountMode.NONE);
+        taskService.listTasks(userId, filter, pageable, TaskCountMode.NONE);
+
+        verify(taskRepository, times(2)).findSlice(any(TaskQuery.class), eq(pageable));
+    }
+
+    @Test
+    void listTasks_categoriaWithSurroundingSpaces_isCachedSeparately() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        Slice<TaskResponse> slice = new SliceImpl<>(List.of(sampleResponse()), pageable, false);
+
+        when(taskRepository.findSlice(any(TaskQuery.class), eq(pageable))).thenReturn(slice);
+
+        taskService.listTasks(userId, TaskFilter.builder().categoria("Work").build(), pageable, TaskCountMode.NONE);
+        taskService.listTasks(userId, TaskFilter.builder().categoria(" Work").build(), pageable, TaskCountMode.NONE);
+        taskService.listTasks(userId, TaskFilter.builder().q(" report ").build(), pageable, TaskCountMode.NONE);
+        taskService.listTasks(userId, TaskFilter.builder().q("report").build(), pageable, TaskCountMode.NONE);
+
+        verify(taskRepository, times(3)).findSlice(any(TaskQuery.class), eq(pageable));
+    }
+
+    @Test
+    void listTasks_afterWrite_reloads() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        UUID taskId = UUID.randomUUID();
+        Slice<TaskResponse> slice = new SliceImpl<>(List.of(sampleResponse()), pageable, false);
+
+        when(taskRepository.findSlice(any(TaskQuery.class), eq(pageable))).thenReturn(slice);
+        when(taskRepository.deleteOwned(taskId, userId))
+                .thenReturn(Optional.of(new TaskGroupCount(TaskStatus.TODO, TaskPriority.MEDIUM, null, 1)));
+
+        taskService.listTasks(userId, null, pageable, TaskCountMode.NONE);
+        taskService.deleteTask(userId, taskId);
+        taskService.listTasks(userId, null, pageable, TaskCountMode.NONE);
+        taskService.listTasks(UUID.randomUUID(), null, pageable, TaskCountMode.NONE);
+
+        verify(taskRepository, times(3)).findSlice(any(TaskQuery.class), eq(pageable));
+    }
+
+    @Test
+    void getPageVersions_countsOnlyWhenThePageDoesNotRevealTheTotal() {
+        PageRequest pageable = PageRequest.of(0, 2);
+        TaskRowVersion row = new TaskRowVersion(UUID.randomUUID(), 1L);
+
+        when(taskRepository.findVersions(any(TaskQuery.class), eq(pageable))).thenReturn(List.of(row));
+        TaskPageVersions lastPage = taskService.getPageVersions(userId, null, pageable, TaskCountMode.EXACT);
+
+        assertThat(lastPage.getTotal()).isEqualTo(1L);
+        assertThat(lastPage.isHasNext()).isFalse();
+        verify(taskRepository, never()).countMatching(any(TaskQuery.class));
+
+        when(taskRepository.findVersions(any(TaskQuery.class), eq(pageable))).thenReturn(List.of(row, row, row));
+        when(taskRepository.countMatching(any(TaskQuery.class))).thenReturn(7L);
+        TaskPageVersions fullPage = taskService.getPageVersions(userId, null, pageable, TaskCountMode.EXACT);
+
+        assertThat(fullPage.getRows()).hasSize(2);
+        assertThat(fullPage.getTotal()).isEqualTo(7L);
+        assertThat(fullPage.isHasNext()).isTrue();
+        verify(taskRepository, never()).findSlice(any(TaskQuery.class), any());
+        verify(taskRepository, never()).findPage(any(TaskQuery.class), any());
+    }
+
+    @Test
+    void listTasks_withCursor_returnsNextCursorWhenMoreTasksExist() {
+        TaskResponse first = sampleResponse();
+        TaskResponse second = sampleResponse();
+        TaskResponse third = sampleResponse();
+
+        when(taskRepository.findNewestFirst(any(TaskQuery.class), eq(3))).thenReturn(List.of(first, second, third));
+
+        CursorPage<TaskResponse> result = taskService.listTasks(userId, TaskFilter.builder().build(), null, 2);
+
+        assertThat(result.getContent()).hasSize(2);
+        TaskCursor next = TaskCursor.decode(result.getNext());
+        assertThat(next.getId()).isEqualTo(second.getId());
+        assertThat(next.getCreatedAt()).isEqualTo(second.getCreatedAt());
+    }
+
+    @Test
+    void listTasks_withCursor_omitsNextCursorOnLastPage() {
+        when(taskRepository.findNewestFirst(any(TaskQuery.class), eq(3))).thenReturn(List.of(sampleResponse()));
+
+        CursorPage<TaskResponse> result = taskService.listTasks(userId, null, null, 2);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getNext()).isNull();
     }
 
     @Test
@@ -139,16 +287,94 @@ class TaskServiceTest {
 
         Task saved = sampleTask();
 
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        when(userRepository.getReferenceById(userId)).thenReturn(user);
         when(taskRepository.save(any(Task.class))).thenReturn(saved);
 
-        TaskResponse response = taskService.createTask(user.getEmail(), request);
+        TaskResponse response = taskService.createTask(userId, request);
 
         assertThat(response.getId()).isEqualTo(saved.getId());
         assertThat(response.getTitulo()).isEqualTo(saved.getTitulo());
         verify(taskRepository).save(any(Task.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void createTasks_savesValidTasksAndReportsInvalidOnes() {
+        TaskRequest valid = TaskRequest.builder().titulo("Valid").build();
+        TaskRequest invalid = TaskRequest.builder().titulo("").build();
+        ConstraintViolation<TaskRequest> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("must not be blank");
+        Task saved = sampleTask();
+
+        when(validator.validate(valid)).thenReturn(Set.of());
+        when(validator.validate(invalid)).thenReturn(Set.of(violation));
+        when(userRepository.getReferenceById(userId)).thenReturn(user);
+        when(taskRepository.saveAll(anyList())).thenReturn(List.of(saved));
+
+        TaskBatchResponse response = taskService.createTasks(userId, List.of(invalid, valid));
+
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getResults().get(0).isCreated()).isFalse();
+        assertThat(response.getResults().get(0).getErrors()).singleElement().asString().contains("must not be blank");
+        assertThat(response.getResults().get(1).getTask().getId()).isEqualTo(saved.getId());
+        verify(taskRepository).flush();
+    }
+
+    @Test
+    void createTasks_rejectsOversizedBatch() {
+        List<TaskRequest> requests = Collections.nCopies(TaskService.MAX_BATCH_SIZE + 1,
+                TaskRequest.builder().titulo("x").build());
+
+        assertThatThrownBy(() -> taskService.createTasks(userId, requests))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void updateTasks_runsSingleSetBasedUpdate() {
+        TaskBulkUpdateRequest request = TaskBulkUpdateRequest.builder()
+                .filter(TaskFilter.builder().categoria("Work").build())
+                .status(TaskStatus.DONE)
+                .build();
+
+        when(taskRepository.updateMatching(any(TaskQuery.class), eq(TaskStatus.DONE), eq(null), eq(null))).thenReturn(2000);
+
+        assertThat(taskService.updateTasks(userId, request).getAffected()).isEqualTo(2000);
+    }
+
+    @Test
+    void updateTasks_requiresSelectionAndChanges() {
+        TaskBulkUpdateRequest withoutSelection = TaskBulkUpdateRequest.builder().status(TaskStatus.DONE).build();
+        TaskBulkUpdateRequest withoutChanges = TaskBulkUpdateRequest.builder().ids(List.of(UUID.randomUUID())).build();
+
+        assertThatThrownBy(() -> taskService.updateTasks(userId, withoutSelection))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.updateTasks(userId, withoutChanges))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deleteTasks_rejectsEmptyFilter() {
+        TaskBulkDeleteRequest request = TaskBulkDeleteRequest.builder()
+                .filter(TaskFilter.builder().categoria("  ").build())
+                .build();
+
+        assertThatThrownBy(() -> taskService.deleteTasks(userId, request))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void deleteTasks_runsSingleSetBasedDelete() {
+        TaskBulkDeleteRequest request = TaskBulkDeleteRequest.builder()
+                .ids(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .build();
+
+        when(taskRepository.deleteMatching(any(TaskQuery.class))).thenReturn(2);
+
+        assertThat(taskService.deleteTasks(userId, request).getAffected()).isEqualTo(2);
+    }
+
     @Test
     void updateTask_updatesFieldsAndReturnsResponse() {
         UUID taskId = UUID.randomUUID();
@@ -164,10 +390,10 @@ class TaskServiceTest {
                 .dueDate(LocalDate.now().plusDays(2))
                 .build();
 
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
         when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(existing));
+        when(taskRepository.saveAndFlush(existing)).thenReturn(existing);
 
-        TaskResponse response = taskService.updateTask(user.getEmail(), taskId, request);
+        TaskResponse response = taskService.updateTask(userId, taskId, request);
 
         assertThat(response.getTitulo()).isEqualTo("Updated");
         assertThat(response.getStatus()).isEqualTo(TaskStatus.DONE);
@@ -177,37 +403,73 @@ class TaskServiceTest {
     }
 
     @Test
-    void deleteTask_removesTaskWhenOwned() {
+    void updateTask_rejectsStaleVersion() {
         UUID taskId = UUID.randomUUID();
         Task existing = sampleTask();
-        existing.setId(taskId);
+        existing.setVersion(3L);
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(existing));
+
+        TaskRequest request = TaskRequest.builder().titulo("x").build();
+
+        assertThatThrownBy(() -> taskService.updateTask(userId, taskId, request, 2L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(taskRepository, never()).saveAndFlush(any());
+    }
 
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+    @Test
+    void patchTask_changesOnlyPresentFields() {
+        UUID taskId = UUID.randomUUID();
+        Task existing = sampleTask();
         when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(existing));
+        when(taskRepository.saveAndFlush(existing)).thenReturn(existing);
 
-        taskService.deleteTask(user.getEmail(), taskId);
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("status", "DONE");
+        patch.put("dueDate", null);
 
-        verify(taskRepository).delete(existing);
+        TaskResponse response = taskService.patchTask(userId, taskId, patch, null);
+
+        assertThat(response.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(response.getDueDate()).isNull();
+        assertThat(response.getTitulo()).isEqualTo("Sample");
+        assertThat(response.getDescricao()).isEqualTo("Desc");
     }
 
     @Test
-    void operations_throwWhenUserNotFound() {
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.empty());
+    void patchTask_rejectsInvalidFields() {
+        UUID taskId = UUID.randomUUID();
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(sampleTask()));
 
-        assertThatThrownBy(() -> taskService.listTasks(user.getEmail(), null, PageRequest.of(0, 5)))
+        assertThatThrownBy(() -> taskService.patchTask(userId, taskId, Map.of("owner", "x"), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown field");
+        Map<String, Object> nullStatus = new HashMap<>();
+        nullStatus.put("status", null);
+        assertThatThrownBy(() -> taskService.patchTask(userId, taskId, nullStatus, null))
                 .isInstanceOf(IllegalArgumentException.class)
-                .hasMessageContaining("User not found");
+                .hasMessageContaining("status must not be null");
+        verify(taskRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void deleteTask_removesTaskWhenOwned() {
+        UUID taskId = UUID.randomUUID();
+        TaskGroupCount deleted = TaskGroupCount.of(sampleTask());
+        when(taskRepository.deleteOwned(taskId, userId)).thenReturn(Optional.of(deleted));
+
+        taskService.deleteTask(userId, taskId);
+
+        verify(taskStatsService).apply(userId, List.of(deleted), List.of());
     }
 
     @Test
     void updateTask_throwsWhenTaskNotOwned() {
         UUID taskId = UUID.randomUUID();
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
         when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.empty());
 
         TaskRequest request = TaskRequest.builder().titulo("x").build();
 
-        assertThatThrownBy(() -> taskService.updateTask(user.getEmail(), taskId, request))
+        assertThatThrownBy(() -> taskService.updateTask(userId, taskId, request))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Task not found");
     }
@@ -215,10 +477,9 @@ class TaskServiceTest {
     @Test
     void deleteTask_throwsWhenTaskNotOwned() {
         UUID taskId = UUID.randomUUID();
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.empty());
+        when(taskRepository.deleteOwned(taskId, userId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> taskService.deleteTask(user.getEmail(), taskId))
+        assertThatThrownBy(() -> taskService.deleteTask(userId, taskId))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Task not found");
     }
@@ -233,8 +494,20 @@ class TaskServiceTest {
                 .categoria("Work")
                 .dueDate(LocalDate.now().plusDays(1))
                 .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .version(0L)
                 .user(user)
                 .build();
     }
-}
 
+    private TaskResponse sampleResponse() {
+        return TaskResponse.builder()
+                .id(UUID.randomUUID())
+                .titulo("Sample")
+                .status(TaskStatus.TODO)
+                .prioridade(TaskPriority.MEDIUM)
+                .createdAt(LocalDateTime.now())
+                .userId(userId)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.gilberto.task_manager_api.service;
+
+import com.gilberto.task_manager_api.TestcontainersConfiguration;
+import com.gilberto.task_manager_api.dto.task.TaskBulkDeleteRequest;
+import com.gilberto.task_manager_api.dto.task.TaskBulkUpdateRequest;
+import com.gilberto.task_manager_api.dto.task.TaskFilter;
+import com.gilberto.task_manager_api.dto.task.TaskRequest;
+import com.gilberto.task_manager_api.dto.task.TaskResponse;
+import com.gilberto.task_manager_api.dto.task.TaskStatsResponse;
+import com.gilberto.task_manager_api.model.enums.TaskPriority;
+import com.gilberto.task_manager_api.model.enums.TaskStatus;
+import com.gilberto.task_manager_api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.gilberto.task_manager_api.TestFixtures.saveUser;
+import static com.gilberto.task_manager_api.TestFixtures.taskRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+class TaskStatsServiceTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setup() {
+        userId = saveUser(userRepository, "Stats").getId();
+    }
+
+    @Test
+    void counters_followEveryWritePath() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        TaskResponse overdue = taskService.createTask(userId, taskRequest("Overdue", TaskPriority.HIGH, yesterday));
+        TaskResponse patched = taskService.createTask(userId, taskRequest("Patched", TaskPriority.LOW, yesterday));
+        TaskResponse deleted = taskService.createTask(userId, taskRequest("Deleted", TaskPriority.LOW, null));
+        taskService.createTasks(userId, List.of(
+                taskRequest("Batch 1", TaskPriority.MEDIUM, null),
+                taskRequest("Batch 2", TaskPriority.MEDIUM, yesterday)));
+
+        taskService.patchTask(userId, patched.getId(), Map.of("status", "DONE"), null);
+        taskService.updateTask(userId, overdue.getId(), TaskRequest.builder()
+                .titulo("Overdue")
+                .status(TaskStatus.IN_PROGRESS)
+                .dueDate(yesterday)
+                .build());
+        taskService.deleteTask(userId, deleted.getId());
+        taskService.updateTasks(userId, TaskBulkUpdateRequest.builder()
+                .filter(TaskFilter.builder().prioridade(TaskPriority.MEDIUM).build())
+                .prioridade(TaskPriority.HIGH)
+                .build());
+        taskService.deleteTasks(userId, TaskBulkDeleteRequest.builder()
+                .filter(TaskFilter.builder().q("Batch 1").build())
+                .build());
+
+        TaskStatsResponse stats = taskStatsService.getStats(userId);
+
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getByStatus()).containsEntry(TaskStatus.TODO, 1L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 1L)
+                .containsEntry(TaskStatus.DONE, 1L);
+        assertThat(stats.getByPrioridade()).containsEntry(TaskPriority.HIGH, 2L)
+                .containsEntry(TaskPriority.MEDIUM, 0L)
+                .containsEntry(TaskPriority.LOW, 1L);
+        assertThat(stats.getOverdue()).isEqualTo(2);
+    }
+
+    @Test
+    void rebuild_matchesIncrementalCounters() {
+        taskService.createTask(userId, taskRequest("One", TaskPriority.HIGH, LocalDate.now().minusDays(3)));
+        taskService.createTask(userId, taskRequest("Two", TaskPriority.LOW, null));
+        TaskStatsResponse incremental = taskStatsService.getStats(userId);
+
+        taskStatsService.rebuild();
+        TaskStatsResponse rebuilt = taskStatsService.getStats(userId);
+
+        assertThat(rebuilt).usingRecursiveComparison().isEqualTo(incremental);
+    }
+}
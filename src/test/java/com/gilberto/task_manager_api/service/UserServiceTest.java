@@ -0,0 +1,77 @@
+package com.gilberto.task_manager_api.service;
+
+import com.gilberto.task_manager_api.dto.auth.RegisterRequest;
+import com.gilberto.task_manager_api.repository.UserRepository;
+import com.gilberto.task_manager_api.security.JwtService;
+import com.gilberto.task_manager_api.security.PasswordHashingService;
+import com.gilberto.task_manager_api.security.PrincipalCache;
+import com.gilberto.task_manager_api.security.TokenRevocationService;
+import com.gilberto.task_manager_api.web.ConcurrencyLimiter;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private ConcurrencyLimiter concurrencyLimiter;
+
+    @InjectMocks
+    private UserService userService;
+
+    @Test
+    void register_concurrentDuplicateEmail_isRejectedAsInUse() {
+        when(userRepository.save(any())).thenThrow(integrityViolation("uk_user_email"));
+
+        assertThatThrownBy(() -> userService.register(request()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Email already in use");
+    }
+
+    @Test
+    void register_otherIntegrityViolation_isNotMapped() {
+        when(userRepository.save(any())).thenThrow(integrityViolation("users_pkey"));
+
+        assertThatThrownBy(() -> userService.register(request()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private static DataIntegrityViolationException integrityViolation(String constraint) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key", "23505"), constraint));
+    }
+
+    private static RegisterRequest request() {
+        return RegisterRequest.builder()
+                .nome("Duplicate")
+                .email("duplicate@example.com")
+                .senha("secret123")
+                .build();
+    }
+}
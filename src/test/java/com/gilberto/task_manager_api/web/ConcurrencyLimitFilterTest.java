@@ -0,0 +1,144 @@
+package com.gilberto.task_manager_api.web;
+
+import com.gilberto.task_manager_api.dto.task.TaskFilter;
+import com.gilberto.task_manager_api.dto.task.TaskResponse;
+import com.gilberto.task_manager_api.exception.ServiceUnavailableException;
+import com.gilberto.task_manager_api.model.enums.TaskFileFormat;
+import com.gilberto.task_manager_api.repository.TaskRepository;
+import com.gilberto.task_manager_api.service.TaskExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ConcurrencyLimiter limiter = new ConcurrencyLimiter(true, 1, Duration.ZERO);
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, JsonMapper.builder().build());
+
+    @Test
+    void rejectsRequestsBeyondTheLimitWith503() throws Exception {
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+        MockHttpServletResponse outer = new MockHttpServletResponse();
+
+        filter.doFilter(apiRequest(), outer, (req, res) -> filter.doFilter(apiRequest(), nested, new MockFilterChain()));
+
+        assertThat(outer.getStatus()).isEqualTo(200);
+        assertThat(nested.getStatus()).isEqualTo(503);
+        assertThat(nested.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void releasesPermitWhenChainFails() {
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            try {
+                filter.doFilter(apiRequest(), new MockHttpServletResponse(), (req, res) -> {
+                    calls.incrementAndGet();
+                    throw new IllegalStateException("boom");
+                });
+            } catch (Exception ignored) {
+            }
+        }
+
+        assertThat(calls).hasValue(3);
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresNonApiRequests() throws Exception {
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+        MockHttpServletRequest actuator = new MockHttpServletRequest("GET", "/actuator/health");
+
+        filter.doFilter(apiRequest(), new MockHttpServletResponse(),
+                (req, res) -> filter.doFilter(actuator, nested, new MockFilterChain()));
+
+        assertThat(nested.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void leavesExportImportUploadsAndLoginToTheServices() throws Exception {
+        MockHttpServletResponse export = new MockHttpServletResponse();
+        MockHttpServletResponse upload = new MockHttpServletResponse();
+        MockHttpServletResponse login = new MockHttpServletResponse();
+        MockHttpServletResponse register = new MockHttpServletResponse();
+
+        filter.doFilter(apiRequest(), new MockHttpServletResponse(), (req, res) -> {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks/export"), export, new MockFilterChain());
+            filter.doFilter(new MockHttpServletRequest("PUT", "/api/tasks/import/" + UUID.randomUUID()), upload,
+                    new MockFilterChain());
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), login, new MockFilterChain());
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/register"), register, new MockFilterChain());
+        });
+
+        assertThat(export.getStatus()).isEqualTo(200);
+        assertThat(upload.getStatus()).isEqualTo(200);
+        assertThat(login.getStatus()).isEqualTo(200);
+        assertThat(register.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void exportHoldsAPermitWhileStreamingOnTheAsyncThread() throws Exception {
+        AtomicInteger permitsWhileStreaming = new AtomicInteger(-1);
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        when(taskRepository.streamNewestFirst(any(), anyInt())).thenAnswer(invocation -> Stream.of(task())
+                .peek(task -> permitsWhileStreaming.set(limiter.availablePermits())));
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        TaskExportService exportService = new TaskExportService(taskRepository, JsonMapper.builder().build(),
+                limiter, transactionManager);
+
+        // The handler only returns the streaming body; the export itself runs after the filter is done.
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks/export"), new MockHttpServletResponse(),
+                new MockFilterChain());
+        long exported = CompletableFuture.supplyAsync(() -> export(exportService)).get();
+
+        assertThat(exported).isEqualTo(1);
+        assertThat(permitsWhileStreaming).hasValue(0);
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+
+        filter.doFilter(apiRequest(), new MockHttpServletResponse(), (req, res) ->
+                assertThatThrownBy(() -> export(exportService)).isInstanceOf(ServiceUnavailableException.class));
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    private static long export(TaskExportService exportService) {
+        try {
+            return exportService.export(UUID.randomUUID(), TaskFilter.builder().build(), TaskFileFormat.NDJSON,
+                    new ByteArrayOutputStream());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static TaskResponse task() {
+        return TaskResponse.builder()
+                .id(UUID.randomUUID())
+                .titulo("Exported")
+                .build();
+    }
+
+    private static MockHttpServletRequest apiRequest() {
+        return new MockHttpServletRequest("GET", "/api/tasks");
+    }
+}
@@ -0,0 +1,46 @@
+package com.gilberto.task_manager_api.web;
+
+import com.gilberto.task_manager_api.repository.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementMetricsFilter filter = new SqlStatementMetricsFilter(meterRegistry);
+
+    @Test
+    void recordsStatementsIssuedByTheRequest() throws Exception {
+        SqlStatementCounter inspector = new SqlStatementCounter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/1");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/{id}");
+        });
+
+        DistributionSummary summary = meterRegistry.get("http.server.requests.sql.statements")
+                .tag("method", "GET")
+                .tag("uri", "/api/tasks/{id}")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+        assertThat(SqlStatementCounter.end()).isZero();
+    }
+
+    @Test
+    void ignoresNonApiRequests() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(meterRegistry.find("http.server.requests.sql.statements").summaries()).isEmpty();
+    }
+}